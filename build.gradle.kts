@@ -10,6 +10,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.5"
     id("com.github.ben-manes.versions") version "0.51.0"
     id("io.sentry.jvm.gradle") version "5.2.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "hexlet.code"
@@ -28,6 +29,14 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-configuration-processor")
     implementation("org.springframework.boot:spring-boot-starter-security")
     implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
+    implementation("org.springframework.boot:spring-boot-starter-cache")
+
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.roaringbitmap:RoaringBitmap:1.0.6")
+    implementation("org.apache.lucene:lucene-core:9.11.1")
+    implementation("org.apache.lucene:lucene-queryparser:9.11.1")
 
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.5.0")
 
@@ -45,6 +54,7 @@ dependencies {
     testImplementation(platform("org.junit:junit-bom:5.11.0-M2"))
     testImplementation("org.junit.jupiter:junit-jupiter:5.11.0-M2")
 
+    jmhImplementation("com.h2database:h2:2.2.224")
 }
 
 sentry {
@@ -66,6 +76,13 @@ tasks.test {
 
 tasks.jacocoTestReport { reports { xml.required.set(true) } }
 
+jmh {
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(5)
+    includes.set(listOf(System.getProperty("jmh.includes") ?: ".*"))
+}
+
 tasks.named("sentryBundleSourcesJava").configure {
     enabled = System.getenv("SENTRY_AUTH_TOKEN") != null
 }
@@ -0,0 +1,157 @@
+package hexlet.code.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import hexlet.code.AppApplication;
+
+/**
+ * Concurrent {@code GET /api/tasks} against the running application with Open Session In View on and off.
+ * Besides throughput, every iteration prints how many pooled connections were checked out on average and at
+ * peak: with OSIV a request keeps its connection while the response is serialized, without it the connection
+ * goes back to the pool when the service transaction ends.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class ConnectionPoolOccupancyBenchmark {
+
+    private static final int TASKS = 1_000;
+    private static final int PAGE_SIZE = 200;
+    private static final int POOL_SIZE = 8;
+
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder activeConnections = new LongAdder();
+    private final AtomicInteger peakConnections = new AtomicInteger();
+
+    @Param({"true", "false"})
+    private boolean openInView;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String token;
+    private List<HikariDataSource> pools;
+    private ScheduledExecutorService sampler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        context = new SpringApplicationBuilder(AppApplication.class).run(
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.open-in-view=" + openInView,
+            "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE
+        );
+
+        var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        var objectMapper = context.getBean(ObjectMapper.class);
+
+        client = HttpClient.newHttpClient();
+        baseUrl = "http://localhost:" + port + "/api";
+        token = send(post("/login", objectMapper.writeValueAsString(
+            Map.of("username", "hexlet@example.com", "password", "qwerty"))));
+
+        var tasks = new ArrayList<Map<String, Object>>();
+        for (var i = 0; i < TASKS; i++) {
+            tasks.add(Map.of("title", "Task " + i, "content", "Content of task " + i, "status", "draft"));
+        }
+        send(post("/tasks/bulk", objectMapper.writeValueAsString(tasks)));
+
+        pools = List.copyOf(context.getBeansOfType(HikariDataSource.class).values());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startSampling() {
+        samples.reset();
+        activeConnections.reset();
+        peakConnections.set(0);
+
+        sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            var active = pools.stream()
+                .mapToInt(pool -> pool.getHikariPoolMXBean().getActiveConnections())
+                .sum();
+
+            samples.increment();
+            activeConnections.add(active);
+            peakConnections.accumulateAndGet(active, Math::max);
+        }, 0, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopSampling() throws InterruptedException {
+        sampler.shutdown();
+        sampler.awaitTermination(1, TimeUnit.SECONDS);
+
+        var mean = samples.sum() == 0 ? 0 : (double) activeConnections.sum() / samples.sum();
+        System.out.printf("%nopen-in-view=%s: %.2f connections in use on average, %d at peak (%d pools of %d)%n",
+            openInView, mean, peakConnections.get(), pools.size(), POOL_SIZE);
+    }
+
+    @Benchmark
+    public int listTasks() throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + "/tasks?limit=" + PAGE_SIZE))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+
+        return send(request).length();
+    }
+
+    private HttpRequest post(String path, String body) {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body));
+
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        return request.build();
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode());
+        }
+
+        return response.body();
+    }
+}
@@ -0,0 +1,84 @@
+package hexlet.code.benchmark;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+import hexlet.code.component.CachingJwtDecoder;
+
+/**
+ * Decoding the same RS256 token the way {@code EncodersConfig} does: a plain {@link NimbusJwtDecoder} that
+ * verifies the signature every time, against the {@link CachingJwtDecoder} wrapper hit from several threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class JwtDecoderBenchmark {
+
+    private static final int KEY_SIZE = 2048;
+
+    private JwtDecoder plain;
+    private JwtDecoder cached;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        var generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(KEY_SIZE);
+        var keyPair = generator.generateKeyPair();
+        var publicKey = (RSAPublicKey) keyPair.getPublic();
+
+        var jwk = new RSAKey.Builder(publicKey)
+            .privateKey((RSAPrivateKey) keyPair.getPrivate())
+            .build();
+        var encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+
+        var now = Instant.now();
+        var claims = JwtClaimsSet.builder()
+            .issuer("self")
+            .issuedAt(now)
+            .expiresAt(now.plus(1, ChronoUnit.HOURS))
+            .subject("john@example.com")
+            .build();
+        token = encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+
+        plain = NimbusJwtDecoder.withPublicKey(publicKey).build();
+        cached = new CachingJwtDecoder(NimbusJwtDecoder.withPublicKey(publicKey).build(), 10_000, Clock.systemUTC());
+    }
+
+    @Benchmark
+    public Jwt plain() {
+        return plain.decode(token);
+    }
+
+    @Benchmark
+    public Jwt cached() {
+        return cached.decode(token);
+    }
+}
@@ -0,0 +1,91 @@
+package hexlet.code.benchmark;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+import hexlet.code.component.SigningJwtEncoder;
+import hexlet.code.util.JwtKeys;
+
+/**
+ * Sign and verify throughput of the {@code /api/login} token per algorithm: RS256 with a 2048-bit key against
+ * ES256 on P-256, signing both through {@link NimbusJwtEncoder} and the pre-built {@link SigningJwtEncoder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtSigningBenchmark {
+
+    @Param({"RS256", "ES256"})
+    private String algorithm;
+
+    private JwtEncoderParameters parameters;
+    private JwtEncoderParameters nimbusParameters;
+    private JwtEncoder nimbusEncoder;
+    private JwtEncoder signingEncoder;
+    private JwtDecoder decoder;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        var signatureAlgorithm = SignatureAlgorithm.from(algorithm);
+        var ec = signatureAlgorithm == SignatureAlgorithm.ES256;
+
+        var generator = KeyPairGenerator.getInstance(ec ? "EC" : "RSA");
+        generator.initialize(ec ? 256 : 2048);
+        var jwk = JwtKeys.of(signatureAlgorithm, generator.generateKeyPair());
+
+        var now = Instant.now();
+        var claims = JwtClaimsSet.builder()
+            .issuer("self")
+            .issuedAt(now)
+            .expiresAt(now.plus(1, ChronoUnit.HOURS))
+            .subject("john@example.com")
+            .build();
+
+        parameters = JwtEncoderParameters.from(claims);
+        nimbusParameters = JwtEncoderParameters.from(JwsHeader.with(signatureAlgorithm).build(), claims);
+        nimbusEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+        signingEncoder = new SigningJwtEncoder(jwk);
+        decoder = JwtKeys.decoder(jwk);
+        token = signingEncoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt signNimbus() {
+        return nimbusEncoder.encode(nimbusParameters);
+    }
+
+    @Benchmark
+    public Jwt signPrebuilt() {
+        return signingEncoder.encode(parameters);
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return decoder.decode(token);
+    }
+}
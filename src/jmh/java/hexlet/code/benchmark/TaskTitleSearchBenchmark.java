@@ -0,0 +1,137 @@
+package hexlet.code.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import hexlet.code.index.IndexKeys;
+import hexlet.code.index.TrigramIndex;
+import hexlet.code.specification.TaskSpecification;
+
+/**
+ * {@code titleCont} over 1M task titles: a case-insensitive LIKE scan in H2 against a trigram index lookup
+ * followed by a primary-key fetch that re-checks the title, as {@code TaskSpecification} does. The queries
+ * match from a few dozen to a few thousand tasks, staying under {@link TaskSpecification#MAX_CANDIDATES} so the
+ * index path is the one the application would take.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskTitleSearchBenchmark {
+
+    private static final int TASKS = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final String[] WORDS = {
+        "fix", "login", "page", "report", "export", "billing", "invoice", "search", "mobile", "layout",
+        "crash", "deploy", "review", "backend", "frontend", "payment", "profile", "settings", "upload", "email",
+    };
+
+    @Param({"mobile crash", "crash 1", "invoice 2x"})
+    private String query;
+
+    private Connection connection;
+    private TrigramIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:title-benchmark;DB_CLOSE_DELAY=-1");
+        index = new TrigramIndex();
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("create table if not exists tasks (id bigint primary key, name varchar(255))");
+            statement.execute("truncate table tasks");
+        }
+
+        var random = new Random(42);
+
+        try (var insert = connection.prepareStatement("insert into tasks (id, name) values (?, ?)")) {
+            for (var id = 1L; id <= TASKS; id++) {
+                var title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + Long.toString(id, Character.MAX_RADIX);
+
+                insert.setLong(1, id);
+                insert.setString(2, title);
+                insert.addBatch();
+                index.put(id, title);
+
+                if (id % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+
+        var candidates = index.search(query).getCardinality();
+
+        if (candidates > TaskSpecification.MAX_CANDIDATES) {
+            throw new IllegalStateException("Query '" + query + "' matches " + candidates + " tasks, the application"
+                + " would not use the index for it");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table tasks");
+        }
+
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> likeScan() throws SQLException {
+        var sql = "select id from tasks where lower(name) like ?";
+
+        try (var select = connection.prepareStatement(sql)) {
+            select.setString(1, pattern());
+            return collectIds(select.executeQuery());
+        }
+    }
+
+    @Benchmark
+    public List<Long> trigramIndex() throws SQLException {
+        var ids = Arrays.stream(index.search(query).toArray())
+            .mapToObj(IndexKeys::toId)
+            .toArray(Long[]::new);
+        var sql = "select id from tasks where id = any(?) and lower(name) like ?";
+
+        try (var select = connection.prepareStatement(sql)) {
+            select.setArray(1, connection.createArrayOf("BIGINT", ids));
+            select.setString(2, pattern());
+            return collectIds(select.executeQuery());
+        }
+    }
+
+    private String pattern() {
+        return "%" + query.toLowerCase(Locale.ROOT) + "%";
+    }
+
+    private static List<Long> collectIds(ResultSet rows) throws SQLException {
+        var ids = new ArrayList<Long>();
+
+        try (rows) {
+            while (rows.next()) {
+                ids.add(rows.getLong(1));
+            }
+        }
+
+        return ids;
+    }
+}
@@ -0,0 +1,97 @@
+package hexlet.code.component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import hexlet.code.event.UserCredentialsChangedEvent;
+
+/**
+ * Remembers successful username/password checks for a short while, so that repeated HTTP Basic requests skip
+ * the user lookup and the BCrypt comparison. Entries are keyed by an HMAC of the credentials under a random
+ * per-process key, so neither the password nor a reusable hash of it is kept in memory. Failed checks are
+ * never cached.
+ */
+public final class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int KEY_SIZE = 32;
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, Authentication> authentications;
+    private final SecretKeySpec key;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, CredentialsCacheProperties properties) {
+        var secret = new byte[KEY_SIZE];
+        new SecureRandom().nextBytes(secret);
+
+        this.delegate = delegate;
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.authentications = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxSize())
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication instanceof UsernamePasswordAuthenticationToken)
+                || !(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        var cacheKey = cacheKey(authentication.getName(), password);
+        var cached = authentications.getIfPresent(cacheKey);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        var result = delegate.authenticate(authentication);
+
+        if (result != null && result.isAuthenticated()) {
+            authentications.put(cacheKey, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserCredentialsChangedEvent event) {
+        invalidate(event.email());
+    }
+
+    public void invalidate(String username) {
+        authentications.asMap().values().removeIf(cached -> cached.getName().equals(username));
+    }
+
+    private String cacheKey(String username, String password) {
+        try {
+            var mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package hexlet.code.component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Keeps tokens that passed signature and claim validation until their {@code exp}, so a client reusing its
+ * token skips the signature verification on every request. Entries are keyed by the SHA-256 of the token;
+ * tokens without an expiry and failed decodes are never cached.
+ */
+public final class CachingJwtDecoder implements JwtDecoder {
+
+    public static final String METRIC_NAME = "jwt.decoder.cache";
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> tokens;
+    private final Clock clock;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new UntilExpiresAt())
+            .ticker(() -> clock.instant().toEpochMilli() * 1_000_000)
+            .recordStats()
+            .build();
+    }
+
+    public CachingJwtDecoder bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tokens, METRIC_NAME);
+        return this;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var key = digest(token);
+        var cached = tokens.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        var jwt = delegate.decode(token);
+
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(clock.instant())) {
+            tokens.put(key, jwt);
+        }
+
+        return jwt;
+    }
+
+    public long size() {
+        return tokens.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            var hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class UntilExpiresAt implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return remaining(jwt.getExpiresAt());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return remaining(jwt.getExpiresAt());
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remaining(Instant expiresAt) {
+            return Math.max(0, Duration.between(clock.instant(), expiresAt).toNanos());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package hexlet.code.component;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "auth.credentials-cache")
+@Setter
+@Getter
+public class CredentialsCacheProperties {
+    private long maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,16 @@
+package hexlet.code.component;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "auth.jwt-cache")
+@Setter
+@Getter
+public class JwtCacheProperties {
+    private boolean enabled = true;
+    private long maxSize = 10_000;
+}
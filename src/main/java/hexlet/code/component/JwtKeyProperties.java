@@ -0,0 +1,19 @@
+package hexlet.code.component;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "jwt")
+@Setter
+@Getter
+public class JwtKeyProperties {
+    private SignatureAlgorithm algorithm = SignatureAlgorithm.RS256;
+    private Resource publicKey;
+    private Resource privateKey;
+}
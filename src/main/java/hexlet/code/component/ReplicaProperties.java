@@ -0,0 +1,22 @@
+package hexlet.code.component;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "replica")
+@Setter
+@Getter
+public class ReplicaProperties {
+    /** JDBC URL of the read replica; read-only transactions use a separate pool on the primary when not set. */
+    private String url;
+    private String username;
+    private String password;
+    /** How long a client's reads stay on the primary after it changed something. */
+    private Duration maxLag = Duration.ofSeconds(5);
+}
@@ -1,19 +0,0 @@
-package hexlet.code.component;
-
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
-
-import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.stereotype.Component;
-
-import lombok.Getter;
-import lombok.Setter;
-
-@Component
-@ConfigurationProperties(prefix = "rsa")
-@Setter
-@Getter
-public class RsaKeyProperties {
-    private RSAPublicKey publicKey;
-    private RSAPrivateKey privateKey;
-}
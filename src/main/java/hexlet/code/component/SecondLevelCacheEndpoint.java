@@ -0,0 +1,47 @@
+package hexlet.code.component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hit ratios of the Hibernate second-level cache regions, entity and query ones alike.
+ */
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheEndpoint {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public record RegionStats(long hits, long misses, long puts, long size, double hitRatio) {
+    }
+
+    @ReadOperation
+    public Map<String, RegionStats> regions() {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var regions = new TreeMap<String, RegionStats>();
+
+        for (var name : statistics.getSecondLevelCacheRegionNames()) {
+            var region = statistics.getCacheRegionStatistics(name);
+
+            if (region == null) {
+                continue;
+            }
+
+            var lookups = region.getHitCount() + region.getMissCount();
+            var hitRatio = lookups == 0 ? 0 : (double) region.getHitCount() / lookups;
+            regions.put(name, new RegionStats(region.getHitCount(), region.getMissCount(), region.getPutCount(),
+                region.getElementCountInMemory(), hitRatio));
+        }
+
+        return regions;
+    }
+}
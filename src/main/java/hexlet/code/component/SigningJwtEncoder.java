@@ -0,0 +1,82 @@
+package hexlet.code.component;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+/**
+ * Signs every token with a single key. The signer and the JWS header are built once, instead of selecting a
+ * JWK from a set and resolving a signer on each call as {@code NimbusJwtEncoder} does.
+ */
+public final class SigningJwtEncoder implements JwtEncoder {
+
+    private final JWSHeader header;
+    private final JWSSigner signer;
+
+    public SigningJwtEncoder(JWK jwk) {
+        var algorithm = JWSAlgorithm.parse(jwk.getAlgorithm().getName());
+
+        this.header = new JWSHeader.Builder(algorithm)
+            .type(JOSEObjectType.JWT)
+            .keyID(jwk.getKeyID())
+            .build();
+
+        try {
+            this.signer = new DefaultJWSSignerFactory().createJWSSigner(jwk, algorithm);
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("Cannot sign with " + algorithm + " key " + jwk.getKeyID(), e);
+        }
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        var requested = parameters.getJwsHeader();
+
+        if (requested != null && !requested.getAlgorithm().getName().equals(header.getAlgorithm().getName())) {
+            throw new JwtEncodingException("Tokens are signed with " + header.getAlgorithm()
+                + ", not " + requested.getAlgorithm().getName());
+        }
+
+        var claims = parameters.getClaims();
+        var builder = new JWTClaimsSet.Builder();
+        claims.getClaims().forEach((name, value) -> builder.claim(name, toJson(value)));
+
+        var jwt = new SignedJWT(header, builder.build());
+
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new JwtEncodingException("Failed to sign the JWT", e);
+        }
+
+        return new Jwt(jwt.serialize(), claims.getIssuedAt(), claims.getExpiresAt(), header.toJSONObject(),
+            claims.getClaims());
+    }
+
+    private static Object toJson(Object value) {
+        if (value instanceof Instant instant) {
+            return Date.from(instant);
+        }
+
+        if (value instanceof URL url) {
+            return url.toExternalForm();
+        }
+
+        return value;
+    }
+}
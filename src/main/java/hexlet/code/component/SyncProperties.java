@@ -0,0 +1,22 @@
+package hexlet.code.component;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "sync")
+@Setter
+@Getter
+public class SyncProperties {
+    /** How long tombstones are kept; older sync tokens get a full resync. */
+    private Duration retention = Duration.ofDays(30);
+    /** Tokens are moved back by this much so that slow in-flight transactions are not missed. */
+    private Duration overlap = Duration.ofSeconds(5);
+    /** Tasks per response; the rest is fetched with the continuation token. */
+    private int pageSize = 500;
+}
@@ -0,0 +1,177 @@
+package hexlet.code.component;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Fans committed task changes out to SSE subscribers. Every subscriber has its own bounded queue drained on the
+ * application task executor, so a slow client never blocks the writer; once its queue is full it is disconnected
+ * and is expected to reconnect and catch up through {@code /api/changes}.
+ */
+@Component
+public class TaskChangeBroadcaster {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private Counter dropped;
+
+    @Autowired
+    private TaskStreamProperties streamProperties;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private record Message(String name, Long id, Object data) {
+    }
+
+    @PostConstruct
+    public void registerMeters() {
+        dropped = meterRegistry.counter("tasks.stream.dropped");
+        meterRegistry.gaugeCollectionSize("tasks.stream.subscribers", Tags.empty(), subscribers);
+    }
+
+    public SseEmitter subscribe(TaskParamsDTO params) {
+        var emitter = new SseEmitter(streamProperties.getTimeout().toMillis());
+        var subscriber = new Subscriber(params.normalized(), emitter, streamProperties.getBufferSize());
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        return emitter;
+    }
+
+    public int size() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) {
+        var name = event.isCreated() ? "created" : event.isDeleted() ? "deleted" : "updated";
+        var task = event.isDeleted() ? event.before() : event.after();
+
+        for (var subscriber : subscribers) {
+            if (subscriber.accepts(event)) {
+                subscriber.offer(new Message(name, event.taskId(), task));
+            }
+        }
+    }
+
+    /**
+     * Keeps proxies from closing idle connections and detects clients that went away without a FIN.
+     */
+    @Scheduled(fixedDelayString = "${tasks.stream.heartbeat:PT30S}")
+    public void heartbeat() {
+        for (var subscriber : subscribers) {
+            subscriber.offer(null);
+        }
+    }
+
+    private final class Subscriber {
+        private final TaskParamsDTO params;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(TaskParamsDTO params, SseEmitter emitter, int bufferSize) {
+            this.params = params;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean accepts(TaskChangedEvent event) {
+            return matches(event.before()) || matches(event.after());
+        }
+
+        /**
+         * A {@code null} message is a heartbeat; it is only queued when the subscriber is idle.
+         */
+        void offer(Message message) {
+            if (message == null) {
+                if (queue.isEmpty() && !draining.get()) {
+                    taskExecutor.execute(this::heartbeat);
+                }
+                return;
+            }
+
+            if (!queue.offer(message)) {
+                dropped.increment();
+                disconnect();
+                return;
+            }
+
+            if (draining.compareAndSet(false, true)) {
+                taskExecutor.execute(this::drain);
+            }
+        }
+
+        private boolean matches(TaskDTO task) {
+            return task != null && params.matches(task);
+        }
+
+        private void drain() {
+            do {
+                var message = queue.poll();
+                while (message != null) {
+                    if (!send(message)) {
+                        return;
+                    }
+                    message = queue.poll();
+                }
+                draining.set(false);
+            } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(Message message) {
+            try {
+                emitter.send(SseEmitter.event()
+                    .name(message.name())
+                    .id(String.valueOf(message.id()))
+                    .data(message.data()));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                disconnect();
+                return false;
+            }
+        }
+
+        private void heartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                disconnect();
+            }
+        }
+
+        private void disconnect() {
+            subscribers.remove(this);
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
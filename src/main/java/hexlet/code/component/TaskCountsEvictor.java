@@ -0,0 +1,39 @@
+package hexlet.code.component;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.event.TaskStatusChangedEvent;
+import hexlet.code.service.TaskService;
+
+/**
+ * Clears the cached task counts once a change to tasks or statuses has committed. Evicting any earlier would
+ * let a count read before the commit be cached again with the old value.
+ */
+@Component
+public class TaskCountsEvictor {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) {
+        evict();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskStatusChangedEvent event) {
+        evict();
+    }
+
+    private void evict() {
+        var cache = cacheManager.getCache(TaskService.COUNTS_CACHE);
+
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package hexlet.code.component;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "tasks.history")
+@Setter
+@Getter
+public class TaskHistoryProperties {
+    /** Directory of the history log; a temporary one is used when not set. */
+    private String dir;
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private int queueCapacity = 10_000;
+    private int batchSize = 500;
+}
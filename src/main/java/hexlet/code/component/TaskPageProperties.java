@@ -0,0 +1,16 @@
+package hexlet.code.component;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "tasks.page")
+@Setter
+@Getter
+public class TaskPageProperties {
+    private int defaultSize = 50;
+    private int maxSize = 200;
+}
@@ -0,0 +1,123 @@
+package hexlet.code.component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+
+/**
+ * Resolves the users, statuses and labels a task refers to with one query per entity type, remembering what
+ * it has already loaded for the rest of the request.
+ */
+@Component
+@RequestScope
+public class TaskReferenceResolver {
+
+    private final Map<Long, User> users = new HashMap<>();
+    private final Map<Long, Label> labels = new HashMap<>();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    public Map<Long, User> findUsers(Collection<Long> ids) {
+        return resolve(ids, users, userRepository::findAllById, User::getId);
+    }
+
+    /**
+     * Statuses come from {@link TaskStatusRegistry} and are attached as lazy references.
+     */
+    public Map<String, TaskStatus> findTaskStatuses(Collection<String> slugs) {
+        return slugs.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .flatMap(slug -> taskStatusRegistry.findBySlug(slug).stream())
+            .collect(Collectors.toMap(
+                TaskStatusRegistry.Entry::slug,
+                entry -> taskStatusRepository.getReferenceById(entry.id())
+            ));
+    }
+
+    public Map<Long, Label> findLabels(Collection<Long> ids) {
+        return resolve(ids, labels, labelRepository::findAllById, Label::getId);
+    }
+
+    /**
+     * The assignee, as a lazy reference unless it was already loaded: the foreign key on
+     * {@code tasks.assignee_id} rejects unknown ids, so there is no need to load the user.
+     */
+    public User getAssignee(Long id) {
+        if (id == null) {
+            return null;
+        }
+
+        return users.containsKey(id) ? users.get(id) : userRepository.getReferenceById(id);
+    }
+
+    public TaskStatus getTaskStatus(String slug) {
+        var found = findTaskStatuses(List.of(slug));
+
+        if (!found.containsKey(slug)) {
+            throw new ResourceNotFoundException("Not Found: " + slug);
+        }
+
+        return found.get(slug);
+    }
+
+    public List<Label> getLabels(List<Long> ids) {
+        var found = findLabels(ids);
+        var missing = ids.stream()
+            .filter(id -> !found.containsKey(id))
+            .distinct()
+            .toList();
+
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Not found: " + missing);
+        }
+
+        return ids.stream()
+            .map(found::get)
+            .toList();
+    }
+
+    private static <K, V> Map<K, V> resolve(Collection<K> keys, Map<K, V> cache,
+            Function<Collection<K>, List<V>> loader, Function<V, K> key) {
+        var requested = keys.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        var missing = requested.stream()
+            .filter(k -> !cache.containsKey(k))
+            .toList();
+
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach(value -> cache.put(key.apply(value), value));
+        }
+
+        return requested.stream()
+            .filter(cache::containsKey)
+            .collect(Collectors.toMap(Function.identity(), cache::get));
+    }
+}
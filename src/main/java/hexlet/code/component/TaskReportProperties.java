@@ -0,0 +1,18 @@
+package hexlet.code.component;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "tasks.reports")
+@Setter
+@Getter
+public class TaskReportProperties {
+    /** Slug of the status whose arrivals count towards throughput. */
+    private String doneStatus = "published";
+    private int defaultWeeks = 12;
+    private int maxWeeks = 104;
+}
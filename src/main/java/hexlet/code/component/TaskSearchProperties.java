@@ -0,0 +1,18 @@
+package hexlet.code.component;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "tasks.search")
+@Setter
+@Getter
+public class TaskSearchProperties {
+    private String indexDir;
+    private Duration commitInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,39 @@
+package hexlet.code.component;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Moves the task id sequence past ids handed out by the former identity column, so pooled allocation
+ * never hands out an id that is already taken.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSequenceInitializer implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        var maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from tasks", Long.class);
+        var sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect()
+            .getSequenceSupport();
+        var next = jdbcTemplate.queryForObject(
+            sequenceSupport.getSequenceNextValString(Task.ID_SEQUENCE), Long.class);
+
+        if (next - Task.ID_ALLOCATION_SIZE < maxId) {
+            var restartWith = maxId + Task.ID_ALLOCATION_SIZE + 1;
+            jdbcTemplate.execute("alter sequence " + Task.ID_SEQUENCE + " restart with " + restartWith);
+        }
+    }
+}
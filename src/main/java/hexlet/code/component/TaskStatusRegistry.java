@@ -0,0 +1,117 @@
+package hexlet.code.component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import hexlet.code.event.TaskStatusChangedEvent;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.TaskStatusRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Immutable snapshot of all task statuses, replaced as a whole whenever one of them changes. A lookup that
+ * misses the snapshot falls back to the database, since another instance may have added the status.
+ */
+@Component
+public class TaskStatusRegistry {
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private Counter hits;
+    private Counter misses;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public record Entry(Long id, String slug, String name) {
+    }
+
+    private record Snapshot(Map<String, Entry> bySlug, Map<Long, Entry> byId) {
+    }
+
+    @PostConstruct
+    public void registerMeters() {
+        hits = meterRegistry.counter("task.status.registry.lookups", "result", "hit");
+        misses = meterRegistry.counter("task.status.registry.lookups", "result", "miss");
+    }
+
+    public List<Entry> findAll() {
+        if (snapshot.get() == null) {
+            refresh();
+        }
+
+        return snapshot.get().byId().values().stream()
+            .sorted(Comparator.comparing(Entry::id))
+            .toList();
+    }
+
+    public Optional<Entry> findBySlug(String slug) {
+        return find(slug, Snapshot::bySlug, taskStatusRepository::existsBySlug);
+    }
+
+    public Optional<Entry> findById(Long id) {
+        return find(id, Snapshot::byId, taskStatusRepository::existsById);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskStatusChangedEvent event) {
+        refresh();
+    }
+
+    public void refresh() {
+        var entries = taskStatusRepository.findAll().stream()
+            .map(TaskStatusRegistry::toEntry)
+            .toList();
+
+        snapshot.set(new Snapshot(
+            entries.stream().collect(Collectors.toUnmodifiableMap(Entry::slug, Function.identity())),
+            entries.stream().collect(Collectors.toUnmodifiableMap(Entry::id, Function.identity()))
+        ));
+    }
+
+    private <K> Optional<Entry> find(K key, Function<Snapshot, Map<K, Entry>> index,
+            Predicate<K> existsInDatabase) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        if (snapshot.get() == null) {
+            refresh();
+        }
+
+        var entry = index.apply(snapshot.get()).get(key);
+
+        if (entry != null) {
+            hits.increment();
+            return Optional.of(entry);
+        }
+
+        misses.increment();
+
+        if (!existsInDatabase.test(key)) {
+            return Optional.empty();
+        }
+
+        refresh();
+        return Optional.ofNullable(index.apply(snapshot.get()).get(key));
+    }
+
+    private static Entry toEntry(TaskStatus taskStatus) {
+        return new Entry(taskStatus.getId(), taskStatus.getSlug(), taskStatus.getName());
+    }
+}
@@ -0,0 +1,19 @@
+package hexlet.code.component;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Component
+@ConfigurationProperties(prefix = "tasks.stream")
+@Setter
+@Getter
+public class TaskStreamProperties {
+    /** Events buffered per subscriber; a subscriber that falls further behind is disconnected. */
+    private int bufferSize = 256;
+    private Duration timeout = Duration.ofMinutes(30);
+}
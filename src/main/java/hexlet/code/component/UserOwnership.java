@@ -0,0 +1,49 @@
+package hexlet.code.component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
+
+/**
+ * Decides whether the caller is the user with the given id. Tokens carrying the user id claim and HTTP Basic
+ * logins are answered without touching the database; other tokens fall back to looking up the user's email,
+ * remembered for the rest of the request.
+ */
+@Component
+@RequestScope
+public class UserOwnership {
+
+    private final Map<Long, Optional<String>> emails = new HashMap<>();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public boolean isOwner(Long id, Authentication authentication) {
+        if (id == null || authentication == null) {
+            return false;
+        }
+
+        if (authentication instanceof JwtAuthenticationToken jwt
+                && jwt.getToken().getClaim(JWTUtils.USER_ID_CLAIM) instanceof Number userId) {
+            return userId.longValue() == id;
+        }
+
+        if (authentication.getPrincipal() instanceof User user && user.getId() != null) {
+            return user.getId().equals(id);
+        }
+
+        return emails.computeIfAbsent(id, userRepository::findEmailById)
+            .map(email -> email.equals(authentication.getName()))
+            .orElse(false);
+    }
+}
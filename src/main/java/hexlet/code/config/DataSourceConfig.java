@@ -0,0 +1,57 @@
+package hexlet.code.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import hexlet.code.component.ReplicaProperties;
+import hexlet.code.datasource.ReadOnlyRoutingDataSource;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Autowired
+    private ReplicaProperties replicaProperties;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        var url = replicaProperties.getUrl();
+        var builder = url == null || url.isBlank()
+            ? properties.initializeDataSourceBuilder()
+            : DataSourceBuilder.create()
+                .url(url)
+                .username(replicaProperties.getUsername())
+                .password(replicaProperties.getPassword());
+
+        var dataSource = builder.type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica) {
+        return ReadOnlyRoutingDataSource.readWrite(primary, replica);
+    }
+}
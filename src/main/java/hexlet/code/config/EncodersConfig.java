@@ -1,5 +1,8 @@
 package hexlet.code.config;
 
+import java.io.IOException;
+import java.time.Clock;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,20 +10,25 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.jwk.JWK;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
-import hexlet.code.component.RsaKeyProperties;
+import hexlet.code.component.CachingJwtDecoder;
+import hexlet.code.component.JwtCacheProperties;
+import hexlet.code.component.JwtKeyProperties;
+import hexlet.code.component.SigningJwtEncoder;
+import hexlet.code.util.JwtKeys;
 
 @Configuration
 public class EncodersConfig {
 
     @Autowired
-    private RsaKeyProperties rsaKeys;
+    private JwtKeyProperties jwtKeys;
+
+    @Autowired
+    private JwtCacheProperties jwtCache;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -28,17 +36,23 @@ public class EncodersConfig {
     }
 
     @Bean
-    JwtEncoder jwtEncoder() {
-        var jwk = new RSAKey.Builder(rsaKeys.getPublicKey())
-            .privateKey(rsaKeys.getPrivateKey())
-            .build();
+    JWK jwtSigningKey() throws IOException {
+        return JwtKeys.load(jwtKeys.getAlgorithm(), jwtKeys.getPublicKey(), jwtKeys.getPrivateKey());
+    }
 
-        var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwks);
+    @Bean
+    JwtEncoder jwtEncoder(JWK jwtSigningKey) {
+        return new SigningJwtEncoder(jwtSigningKey);
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+    JwtDecoder jwtDecoder(JWK jwtSigningKey, MeterRegistry meterRegistry) {
+        var decoder = JwtKeys.decoder(jwtSigningKey);
+
+        if (!jwtCache.isEnabled()) {
+            return decoder;
+        }
+
+        return new CachingJwtDecoder(decoder, jwtCache.getMaxSize(), Clock.systemUTC()).bindTo(meterRegistry);
     }
 }
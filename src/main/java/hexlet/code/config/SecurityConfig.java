@@ -17,6 +17,8 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
+import hexlet.code.component.CachingAuthenticationProvider;
+import hexlet.code.component.CredentialsCacheProperties;
 import hexlet.code.service.CustomUserDetailsService;
 
 @Configuration
@@ -33,6 +35,9 @@ public class SecurityConfig {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private CredentialsCacheProperties credentialsCacheProperties;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http, HandlerMappingIntrospector introspector)
             throws Exception {
@@ -62,6 +67,6 @@ public class SecurityConfig {
         var provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(customUserDetailsService);
         provider.setPasswordEncoder(passwordEncoder);
-        return provider;
+        return new CachingAuthenticationProvider(provider, credentialsCacheProperties);
     }
 }
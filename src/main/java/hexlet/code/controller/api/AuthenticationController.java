@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import hexlet.code.dto.AuthRequest;
+import hexlet.code.model.User;
 import hexlet.code.util.JWTUtils;
 
 @RestController
@@ -28,8 +29,8 @@ public class AuthenticationController {
             authRequest.getPassword()
         );
 
-        authenticationManager.authenticate(authentication);
-        var token = jwtUtils.generateToken(authRequest.getUsername());
+        var user = (User) authenticationManager.authenticate(authentication).getPrincipal();
+        var token = jwtUtils.generateToken(user.getEmail(), user.getId());
         return token;
     }
 }
@@ -0,0 +1,26 @@
+package hexlet.code.controller.api;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import hexlet.code.dto.ChangesDTO;
+import hexlet.code.service.ChangesService;
+
+@RestController
+@RequestMapping("/api")
+public class ChangesController {
+
+    @Autowired
+    private ChangesService changesService;
+
+    @GetMapping("/changes")
+    @ResponseStatus(HttpStatus.OK)
+    ChangesDTO index(@RequestParam(required = false) String since) {
+        return changesService.getChanges(since);
+    }
+}
@@ -0,0 +1,41 @@
+package hexlet.code.controller.api;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import hexlet.code.dto.TaskReportDTO;
+import hexlet.code.report.TaskReportAggregates.Dimension;
+import hexlet.code.report.TaskReportAggregates.Type;
+import hexlet.code.report.TaskReports;
+
+@RestController
+@RequestMapping("/api")
+public class ReportsController {
+
+    @Autowired
+    private TaskReports taskReports;
+
+    @GetMapping("/reports/tasks")
+    @ResponseStatus(HttpStatus.OK)
+    TaskReportDTO index(@RequestParam(required = false) Integer weeks) {
+        return taskReports.report(Dimension.ALL, weeks);
+    }
+
+    @GetMapping("/reports/tasks/assignees/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    TaskReportDTO byAssignee(@PathVariable Long id, @RequestParam(required = false) Integer weeks) {
+        return taskReports.report(new Dimension(Type.ASSIGNEE, id), weeks);
+    }
+
+    @GetMapping("/reports/tasks/labels/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    TaskReportDTO byLabel(@PathVariable Long id, @RequestParam(required = false) Integer weeks) {
+        return taskReports.report(new Dimension(Type.LABEL, id), weeks);
+    }
+}
@@ -0,0 +1,50 @@
+package hexlet.code.controller.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.service.TaskExportService;
+import jakarta.servlet.http.HttpServletResponse;
+
+@RestController
+@RequestMapping("/api")
+public class TaskExportsController {
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @GetMapping("/tasks/export")
+    @ResponseStatus(HttpStatus.OK)
+    void export(
+            TaskParamsDTO params,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        var gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        OutputStream body = response.getOutputStream();
+
+        try (var out = gzip ? new GZIPOutputStream(body, true) : body) {
+            taskExportService.export(params, out);
+        }
+    }
+}
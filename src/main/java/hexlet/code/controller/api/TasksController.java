@@ -4,21 +4,37 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import hexlet.code.component.TaskChangeBroadcaster;
+import hexlet.code.dto.TaskBoardColumnDTO;
+import hexlet.code.dto.TaskBulkResultDTO;
+import hexlet.code.dto.TaskBulkUpdateDTO;
+import hexlet.code.dto.TaskBulkUpdateResultDTO;
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskFacetsDTO;
+import hexlet.code.dto.TaskHistoryDTO;
+import hexlet.code.dto.TaskMoveDTO;
 import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.dto.TaskSearchHitDTO;
 import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.service.TaskBoardService;
+import hexlet.code.service.TaskBulkService;
 import hexlet.code.service.TaskService;
 import jakarta.validation.Valid;
 
@@ -29,14 +45,70 @@ public class TasksController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private TaskBoardService taskBoardService;
+
+    @Autowired
+    private TaskChangeBroadcaster taskChangeBroadcaster;
+
     @GetMapping("/tasks")
     @ResponseStatus(HttpStatus.OK)
-    ResponseEntity<List<TaskDTO>> index(TaskParamsDTO params) {
-        var tasks = taskService.getAll(params);
+    ResponseEntity<List<TaskDTO>> index(
+            TaskParamsDTO params,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        var page = taskService.getAll(params, cursor, limit);
+
+        var response = ResponseEntity.ok()
+            .header("X-Total-Count", String.valueOf(taskService.count(params)));
+
+        if (page.getNext() != null) {
+            response.header("X-Next-Cursor", page.getNext());
+        }
+
+        return response.body(page.getData());
+    }
 
+    @RequestMapping(path = "/tasks", method = RequestMethod.HEAD)
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<Void> count(TaskParamsDTO params) {
         return ResponseEntity.ok()
-            .header("X-Total-Count", String.valueOf(tasks.size()))
-            .body(tasks);
+            .header("X-Total-Count", String.valueOf(taskService.count(params)))
+            .build();
+    }
+
+    @GetMapping(path = "/tasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    SseEmitter stream(TaskParamsDTO params) {
+        return taskChangeBroadcaster.subscribe(params);
+    }
+
+    @GetMapping("/tasks/board")
+    @ResponseStatus(HttpStatus.OK)
+    List<TaskBoardColumnDTO> board(TaskParamsDTO params, @RequestParam(required = false) Integer limit) {
+        return taskBoardService.getBoard(params, limit);
+    }
+
+    @GetMapping("/tasks/facets")
+    @ResponseStatus(HttpStatus.OK)
+    TaskFacetsDTO facets(TaskParamsDTO params) {
+        return taskService.facets(params);
+    }
+
+    @GetMapping("/tasks/search")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<List<TaskSearchHitDTO>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit) {
+        var result = taskService.search(q, page, limit);
+
+        return ResponseEntity.ok()
+            .header("X-Total-Count", String.valueOf(result.getTotal()))
+            .body(result.getData());
     }
 
     @GetMapping("/tasks/{id}")
@@ -45,18 +117,49 @@ public class TasksController {
         return taskService.findById(id);
     }
 
+    @GetMapping("/tasks/{id}/history")
+    @ResponseStatus(HttpStatus.OK)
+    ResponseEntity<List<TaskHistoryDTO>> history(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer limit) {
+        var result = taskService.getHistory(id, page, limit);
+
+        return ResponseEntity.ok()
+            .header("X-Total-Count", String.valueOf(result.getTotal()))
+            .body(result.getData());
+    }
+
     @PostMapping("/tasks")
     @ResponseStatus(HttpStatus.CREATED)
     TaskDTO create(@Valid @RequestBody TaskCreateDTO data) {
         return taskService.create(data);
     }
 
+    @PostMapping("/tasks/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    List<TaskBulkResultDTO> createAll(@RequestBody List<TaskCreateDTO> items) {
+        return taskBulkService.create(items);
+    }
+
+    @PatchMapping("/tasks/bulk")
+    @ResponseStatus(HttpStatus.OK)
+    TaskBulkUpdateResultDTO updateAll(@Valid @RequestBody TaskBulkUpdateDTO data) {
+        return taskBulkService.update(data);
+    }
+
     @PutMapping("/tasks/{id}")
     @ResponseStatus(HttpStatus.OK)
     TaskDTO update(@Valid @RequestBody TaskUpdateDTO data, @PathVariable Long id) {
         return taskService.update(data, id);
     }
 
+    @PutMapping("/tasks/{id}/move")
+    @ResponseStatus(HttpStatus.OK)
+    TaskDTO move(@RequestBody TaskMoveDTO data, @PathVariable Long id) {
+        return taskBoardService.move(id, data);
+    }
+
     @DeleteMapping("/tasks/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     void destroy(@PathVariable Long id) {
@@ -52,14 +52,14 @@ public class UsersController {
     }
 
     @PutMapping("/users/{id}")
-    @PreAuthorize("@userService.findById(#id).getEmail() == authentication.name")
+    @PreAuthorize("@userOwnership.isOwner(#id, authentication)")
     @ResponseStatus(HttpStatus.OK)
     UserDTO update(@Valid @RequestBody UserUpdateDTO data, @PathVariable Long id) {
         return userService.update(data, id);
     }
 
     @DeleteMapping("/users/{id}")
-    @PreAuthorize("@userService.findById(#id).getEmail() == authentication.name")
+    @PreAuthorize("@userOwnership.isOwner(#id, authentication)")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     void destroy(@PathVariable Long id) {
         userService.delete(id);
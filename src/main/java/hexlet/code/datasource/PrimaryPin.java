@@ -0,0 +1,44 @@
+package hexlet.code.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread's reads as needing the primary, e.g. because the replica may not have caught up
+ * with the client's own writes yet.
+ */
+public final class PrimaryPin {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryPin() {
+    }
+
+    public static boolean isPinned() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+
+    /**
+     * Runs {@code action} pinned to the primary and restores the previous state afterwards. The pin must be in
+     * place before the transaction runs its first statement.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (isPinned()) {
+            return action.get();
+        }
+
+        pin();
+        try {
+            return action.get();
+        } finally {
+            clear();
+        }
+    }
+}
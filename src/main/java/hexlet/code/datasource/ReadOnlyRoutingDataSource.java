@@ -0,0 +1,39 @@
+package hexlet.code.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Target for read-only connections: the replica, unless the current thread is {@link PrimaryPin pinned}.
+ */
+public final class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private ReadOnlyRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(replica);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Returns a data source that hands out primary connections, and replica ones to read-only transactions.
+     * The choice is made when the first statement runs, after the transaction manager has marked the
+     * connection read-only.
+     */
+    public static DataSource readWrite(DataSource primary, DataSource replica) {
+        var dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReadOnlyRoutingDataSource(primary, replica));
+        return dataSource;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return PrimaryPin.isPinned() ? PRIMARY : REPLICA;
+    }
+}
@@ -0,0 +1,67 @@
+package hexlet.code.datasource;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import hexlet.code.component.ReplicaProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Remembers clients that have just changed something and pins their requests to the primary for
+ * {@code replica.max-lag}, so that they do not read their own writes back from a lagging replica.
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private Cache<String, Boolean> recentWriters;
+
+    @Autowired
+    private ReplicaProperties replicaProperties;
+
+    @PostConstruct
+    public void init() {
+        recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(replicaProperties.getMaxLag())
+            .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var client = currentClient();
+        var writes = !SAFE_METHODS.contains(request.getMethod());
+
+        if (client != null && (writes || recentWriters.getIfPresent(client) != null)) {
+            PrimaryPin.pin();
+        }
+
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PrimaryPin.clear();
+
+            if (client != null && writes && response.getStatus() < HttpServletResponse.SC_BAD_REQUEST) {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static String currentClient() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
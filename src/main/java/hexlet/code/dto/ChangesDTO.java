@@ -0,0 +1,19 @@
+package hexlet.code.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class ChangesDTO {
+    private String token;
+    private boolean full;
+    private boolean hasMore;
+    private List<TaskDTO> tasks;
+    private List<LabelDTO> labels;
+    private List<TaskStatusDTO> taskStatuses;
+    private Map<String, List<Long>> deleted;
+}
@@ -1,5 +1,6 @@
 package hexlet.code.dto;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -15,4 +16,6 @@ public class LabelDTO {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDate createdAt;
+
+    private Instant updatedAt;
 }
@@ -0,0 +1,14 @@
+package hexlet.code.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskBoardColumnDTO {
+    private String status;
+    private String name;
+    private List<TaskDTO> tasks;
+}
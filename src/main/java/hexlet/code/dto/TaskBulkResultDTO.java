@@ -0,0 +1,14 @@
+package hexlet.code.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskBulkResultDTO {
+    private int position;
+    private Long id;
+    private List<String> errors;
+}
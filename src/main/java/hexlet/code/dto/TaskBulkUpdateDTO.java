@@ -0,0 +1,42 @@
+package hexlet.code.dto;
+
+import java.util.List;
+
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskBulkUpdateDTO {
+    private List<Long> ids;
+    private TaskParamsDTO filter;
+
+    /** Confirms that a filter without criteria is meant to update every task. */
+    private boolean all;
+
+    private String status;
+
+    @JsonProperty("assignee_id")
+    private JsonNullable<Long> assigneeId;
+
+    private List<Long> addLabelIds;
+    private List<Long> removeLabelIds;
+
+    @JsonIgnore
+    @AssertTrue(message = "exactly one of ids and filter is required")
+    public boolean isTargetSpecified() {
+        return (ids == null) != (filter == null);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "filter needs at least one criterion, or all: true to update every task")
+    public boolean isFilterNarrowed() {
+        return filter == null || all || filter.hasCriteria();
+    }
+}
@@ -0,0 +1,10 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskBulkUpdateResultDTO {
+    private int affected;
+}
@@ -0,0 +1,14 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskCycleTimeDTO {
+    private long count;
+    private long meanSeconds;
+    private long p50Seconds;
+    private long p90Seconds;
+    private long maxSeconds;
+}
@@ -1,9 +1,11 @@
 package hexlet.code.dto;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.Getter;
@@ -14,10 +16,13 @@ import lombok.Setter;
 public class TaskDTO {
     private Long id;
     private Integer index;
+    private String rank;
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDate createdAt;
 
+    private Instant updatedAt;
+
     @JsonProperty("assignee_id")
     private Long assigneeId;
 
@@ -28,5 +33,9 @@ public class TaskDTO {
     private String description;
 
     private String status;
+
+    @JsonIgnore
+    private Long taskStatusId;
+
     private List<Long> taskLabelIds;
 }
@@ -0,0 +1,15 @@
+package hexlet.code.dto;
+
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskFacetsDTO {
+    private long total;
+    private Map<String, Long> statuses;
+    private Map<Long, Long> assignees;
+    private Map<Long, Long> labels;
+}
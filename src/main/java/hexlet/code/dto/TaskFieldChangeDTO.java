@@ -0,0 +1,12 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskFieldChangeDTO {
+    private String field;
+    private String from;
+    private String to;
+}
@@ -0,0 +1,16 @@
+package hexlet.code.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskHistoryDTO {
+    private Instant changedAt;
+    private String action;
+    private String author;
+    private List<TaskFieldChangeDTO> changes;
+}
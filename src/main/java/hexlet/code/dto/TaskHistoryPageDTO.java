@@ -0,0 +1,13 @@
+package hexlet.code.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskHistoryPageDTO {
+    private List<TaskHistoryDTO> data;
+    private int total;
+}
@@ -0,0 +1,12 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskMoveDTO {
+    private String status;
+    private Long afterId;
+    private Long beforeId;
+}
@@ -1,13 +1,75 @@
 package hexlet.code.dto;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 
 @Setter
 @Getter
+@EqualsAndHashCode
 public class TaskParamsDTO {
     private String titleCont;
     private Long assigneeId;
     private String status;
     private Long labelId;
+    private List<Long> labelIdsAny;
+    private List<Long> labelIdsAll;
+
+    public TaskParamsDTO normalized() {
+        var normalized = new TaskParamsDTO();
+        normalized.setTitleCont(blankToNull(titleCont));
+        normalized.setAssigneeId(assigneeId);
+        normalized.setStatus(blankToNull(status));
+        normalized.setLabelId(labelId);
+        normalized.setLabelIdsAny(distinctSorted(labelIdsAny));
+        normalized.setLabelIdsAll(distinctSorted(labelIdsAll));
+        return normalized;
+    }
+
+    public boolean hasCriteria() {
+        var params = normalized();
+
+        return params.getTitleCont() != null
+            || params.getAssigneeId() != null
+            || params.getStatus() != null
+            || params.getLabelId() != null
+            || params.getLabelIdsAny() != null
+            || params.getLabelIdsAll() != null;
+    }
+
+    /**
+     * In-memory counterpart of the task list filter, for params that were already {@link #normalized()}.
+     */
+    public boolean matches(TaskDTO task) {
+        var labelIds = task.getTaskLabelIds() == null ? List.<Long>of() : task.getTaskLabelIds();
+
+        return (titleCont == null || task.getName() != null
+                && task.getName().toLowerCase(Locale.ROOT).contains(titleCont.toLowerCase(Locale.ROOT)))
+            && (assigneeId == null || assigneeId.equals(task.getAssigneeId()))
+            && (status == null || status.equals(task.getStatus()))
+            && (labelId == null || labelIds.contains(labelId))
+            && (labelIdsAny == null || labelIdsAny.stream().anyMatch(labelIds::contains))
+            && (labelIdsAll == null || labelIds.containsAll(labelIdsAll));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private static List<Long> distinctSorted(List<Long> ids) {
+        if (ids == null) {
+            return null;
+        }
+
+        var result = ids.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .toList();
+        return result.isEmpty() ? null : result;
+    }
 }
@@ -0,0 +1,13 @@
+package hexlet.code.dto;
+
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskReportDTO {
+    private Map<String, TaskCycleTimeDTO> cycleTimes;
+    private Map<String, Long> throughput;
+}
@@ -0,0 +1,12 @@
+package hexlet.code.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+public class TaskSearchHitDTO {
+    private Long id;
+    private Float score;
+    private TaskDTO task;
+}
@@ -0,0 +1,34 @@
+package hexlet.code.event;
+
+import hexlet.code.dto.TaskDTO;
+
+/**
+ * Published by {@code TaskService} for every task write. {@code before} is {@code null} for a created task,
+ * {@code after} is {@code null} for a deleted one.
+ */
+public record TaskChangedEvent(TaskDTO before, TaskDTO after) {
+
+    public static TaskChangedEvent created(TaskDTO task) {
+        return new TaskChangedEvent(null, task);
+    }
+
+    public static TaskChangedEvent updated(TaskDTO before, TaskDTO after) {
+        return new TaskChangedEvent(before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskDTO task) {
+        return new TaskChangedEvent(task, null);
+    }
+
+    public Long taskId() {
+        return after != null ? after.getId() : before.getId();
+    }
+
+    public boolean isCreated() {
+        return before == null;
+    }
+
+    public boolean isDeleted() {
+        return after == null;
+    }
+}
@@ -0,0 +1,7 @@
+package hexlet.code.event;
+
+/**
+ * Published by {@code TaskStatusService} whenever a status is created, updated or deleted.
+ */
+public record TaskStatusChangedEvent(Long taskStatusId) {
+}
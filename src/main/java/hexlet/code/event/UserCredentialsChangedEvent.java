@@ -0,0 +1,8 @@
+package hexlet.code.event;
+
+/**
+ * Published by {@code UserService} when a user's email or password changes or the user is deleted;
+ * {@code email} is the one the user had before the change.
+ */
+public record UserCredentialsChangedEvent(String email) {
+}
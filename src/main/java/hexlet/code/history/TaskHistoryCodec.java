@@ -0,0 +1,92 @@
+package hexlet.code.history;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+
+/**
+ * Binary layout of a history record: task id, epoch millis, action ordinal, author, the changed fields and the
+ * status id. Strings are length-prefixed UTF-8, with a negative length standing for {@code null}; a negative
+ * status id stands for {@code null} as well.
+ */
+public final class TaskHistoryCodec {
+
+    private static final TaskHistoryRecord.Action[] ACTIONS = TaskHistoryRecord.Action.values();
+
+    private TaskHistoryCodec() {
+    }
+
+    public static byte[] encode(TaskHistoryRecord record) {
+        var bytes = new ByteArrayOutputStream(64);
+
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeLong(record.taskId());
+            out.writeLong(record.changedAt().toEpochMilli());
+            out.writeByte(record.action().ordinal());
+            writeString(out, record.author());
+            out.writeShort(record.changes().size());
+
+            for (var change : record.changes()) {
+                writeString(out, change.field());
+                writeString(out, change.from());
+                writeString(out, change.to());
+            }
+
+            out.writeLong(record.taskStatusId() == null ? -1 : record.taskStatusId());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    public static TaskHistoryRecord decode(ByteBuffer buffer) {
+        var taskId = buffer.getLong();
+        var changedAt = Instant.ofEpochMilli(buffer.getLong());
+        var action = ACTIONS[buffer.get()];
+        var author = readString(buffer);
+        var count = Short.toUnsignedInt(buffer.getShort());
+        var changes = new ArrayList<TaskHistoryRecord.Change>(count);
+
+        for (var i = 0; i < count; i++) {
+            changes.add(new TaskHistoryRecord.Change(readString(buffer), readString(buffer), readString(buffer)));
+        }
+
+        var taskStatusId = buffer.getLong();
+
+        return new TaskHistoryRecord(taskId, changedAt, action, author, changes,
+            taskStatusId < 0 ? null : taskStatusId);
+    }
+
+    public static long taskId(ByteBuffer buffer) {
+        return buffer.getLong(buffer.position());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var length = buffer.getInt();
+
+        if (length < 0) {
+            return null;
+        }
+
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,252 @@
+package hexlet.code.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of task history records split into fixed-size memory-mapped segments. Every entry is
+ * {@code [length][crc32c][payload]}; a zero length marks the end of a segment. Global offsets are
+ * {@code segment * segmentSize + position}, and the per-task offset index is rebuilt by scanning the segments
+ * on open, stopping at the first torn entry.
+ */
+public final class TaskHistoryLog implements Closeable {
+
+    private static final int HEADER_SIZE = 8;
+    private static final String SUFFIX = ".log";
+
+    private final Path dir;
+    private final int segmentSize;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Map<Long, List<Long>> offsets = new ConcurrentHashMap<>();
+
+    private int position;
+
+    private record Segment(FileChannel channel, MappedByteBuffer buffer) {
+    }
+
+    private TaskHistoryLog(Path dir, int segmentSize) {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+    }
+
+    public static TaskHistoryLog open(Path dir, int segmentSize) throws IOException {
+        Files.createDirectories(dir);
+
+        var log = new TaskHistoryLog(dir, segmentSize);
+        var files = new ArrayList<Path>();
+
+        try (var stream = Files.list(dir)) {
+            stream.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                .sorted()
+                .forEach(files::add);
+        }
+
+        for (var i = 0; i < files.size(); i++) {
+            log.position = log.recover(log.map(i));
+        }
+
+        if (log.segments.isEmpty()) {
+            log.map(0);
+        } else {
+            log.clearTail();
+        }
+
+        return log;
+    }
+
+    /**
+     * Appends the records in order; when one fails, the ones before it stay appended.
+     */
+    public synchronized void append(List<TaskHistoryRecord> records) throws IOException {
+        for (var record : records) {
+            append(record);
+        }
+    }
+
+    /**
+     * Only the single history writer thread appends, so the write position needs no further coordination. A
+     * record too large for a segment is rejected with {@link IllegalArgumentException} before anything is
+     * written.
+     */
+    public synchronized void append(TaskHistoryRecord record) throws IOException {
+        var payload = TaskHistoryCodec.encode(record);
+        var size = HEADER_SIZE + payload.length;
+
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("History record exceeds segment size: " + size);
+        }
+
+        if (position + size > segmentSize) {
+            map(segments.size());
+            position = 0;
+        }
+
+        var segmentIndex = segments.size() - 1;
+        var buffer = segments.get(segmentIndex).buffer();
+        var crc = new CRC32C();
+        crc.update(payload);
+
+        buffer.put(position + HEADER_SIZE, payload);
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(position, payload.length);
+
+        index(record.taskId(), (long) segmentIndex * segmentSize + position);
+        position += size;
+    }
+
+    public synchronized void force() {
+        segments.get(segments.size() - 1).buffer().force();
+    }
+
+    public int count(long taskId) {
+        var taskOffsets = offsets.get(taskId);
+
+        if (taskOffsets == null) {
+            return 0;
+        }
+
+        synchronized (taskOffsets) {
+            return taskOffsets.size();
+        }
+    }
+
+    /**
+     * Returns the task's records newest first.
+     */
+    public List<TaskHistoryRecord> read(long taskId, int offset, int limit) {
+        var taskOffsets = offsets.get(taskId);
+
+        if (taskOffsets == null) {
+            return List.of();
+        }
+
+        List<Long> page;
+        synchronized (taskOffsets) {
+            var to = Math.max(0, taskOffsets.size() - offset);
+            var from = Math.max(0, to - limit);
+            page = new ArrayList<>(taskOffsets.subList(from, to));
+        }
+
+        var records = new ArrayList<TaskHistoryRecord>(page.size());
+
+        for (var i = page.size() - 1; i >= 0; i--) {
+            records.add(read(page.get(i)));
+        }
+
+        return records;
+    }
+
+    /**
+     * Feeds every record appended so far to {@code consumer} in append order. Records appended meanwhile are
+     * not included, so the writer is only held up while the end of the log is read.
+     */
+    public void replay(Consumer<TaskHistoryRecord> consumer) {
+        long end;
+        synchronized (this) {
+            end = (long) (segments.size() - 1) * segmentSize + position;
+        }
+
+        var offset = 0L;
+
+        while (offset < end) {
+            var buffer = segments.get((int) (offset / segmentSize)).buffer();
+            var entryPosition = (int) (offset % segmentSize);
+            var length = entryPosition + HEADER_SIZE <= segmentSize ? buffer.getInt(entryPosition) : 0;
+
+            if (length <= 0) {
+                offset = (offset / segmentSize + 1) * segmentSize;
+                continue;
+            }
+
+            consumer.accept(read(offset));
+            offset += HEADER_SIZE + length;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (var segment : segments) {
+            segment.buffer().force();
+            segment.channel().close();
+        }
+
+        segments.clear();
+    }
+
+    private TaskHistoryRecord read(long offset) {
+        var buffer = segments.get((int) (offset / segmentSize)).buffer();
+        var entryPosition = (int) (offset % segmentSize);
+        var length = buffer.getInt(entryPosition);
+
+        return TaskHistoryCodec.decode(buffer.slice(entryPosition + HEADER_SIZE, length));
+    }
+
+    private MappedByteBuffer map(int segmentIndex) throws IOException {
+        var file = dir.resolve(String.format("%020d%s", (long) segmentIndex * segmentSize, SUFFIX));
+        var channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+        segments.add(new Segment(channel, buffer));
+        return buffer;
+    }
+
+    private int recover(MappedByteBuffer buffer) {
+        var segmentIndex = segments.size() - 1;
+        var entryPosition = 0;
+
+        while (entryPosition + HEADER_SIZE <= segmentSize) {
+            var length = buffer.getInt(entryPosition);
+
+            if (length <= 0 || entryPosition + HEADER_SIZE + length > segmentSize) {
+                break;
+            }
+
+            var payload = buffer.slice(entryPosition + HEADER_SIZE, length);
+            var crc = new CRC32C();
+            crc.update(payload.duplicate());
+
+            if ((int) crc.getValue() != buffer.getInt(entryPosition + Integer.BYTES)) {
+                break;
+            }
+
+            index(TaskHistoryCodec.taskId(payload), (long) segmentIndex * segmentSize + entryPosition);
+            entryPosition += HEADER_SIZE + length;
+        }
+
+        return entryPosition;
+    }
+
+    /**
+     * Wipes whatever a torn write left behind the last valid entry, so that it cannot be mistaken for one later.
+     */
+    private void clearTail() {
+        var buffer = segments.get(segments.size() - 1).buffer();
+
+        for (var i = position; i < segmentSize; i++) {
+            if (buffer.get(i) != 0) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+    }
+
+    private void index(long taskId, long offset) {
+        var taskOffsets = offsets.computeIfAbsent(taskId, id -> new ArrayList<>());
+
+        synchronized (taskOffsets) {
+            taskOffsets.add(offset);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package hexlet.code.history;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.event.TaskChangedEvent;
+
+/**
+ * One entry of a task's history: who did what and, for creates and updates, which fields changed and the id of
+ * the status the task is in afterwards, which stays valid when the status is renamed.
+ */
+public record TaskHistoryRecord(long taskId, Instant changedAt, Action action, String author, List<Change> changes,
+        Long taskStatusId) {
+
+    private static final Map<String, Function<TaskDTO, Object>> FIELDS = Map.of(
+        "title", TaskDTO::getName,
+        "content", TaskDTO::getDescription,
+        "status", TaskDTO::getStatus,
+        "assignee_id", TaskDTO::getAssigneeId,
+        "index", TaskDTO::getIndex,
+        "taskLabelIds", task -> task.getTaskLabelIds() == null ? null : task.getTaskLabelIds().stream()
+            .sorted()
+            .map(String::valueOf)
+            .collect(Collectors.joining(","))
+    );
+
+    public enum Action {
+        CREATED, UPDATED, DELETED
+    }
+
+    public record Change(String field, String from, String to) {
+    }
+
+    /**
+     * Returns nothing for an update that did not touch any of the recorded fields, e.g. a reorder on the board.
+     */
+    public static Optional<TaskHistoryRecord> of(TaskChangedEvent event, String author, Instant changedAt) {
+        if (event.isDeleted()) {
+            return Optional.of(
+                new TaskHistoryRecord(event.taskId(), changedAt, Action.DELETED, author, List.of(), null));
+        }
+
+        var changes = new ArrayList<Change>();
+
+        for (var field : FIELDS.keySet().stream().sorted().toList()) {
+            var from = event.isCreated() ? null : valueOf(FIELDS.get(field).apply(event.before()));
+            var to = valueOf(FIELDS.get(field).apply(event.after()));
+
+            if (!Objects.equals(from, to)) {
+                changes.add(new Change(field, from, to));
+            }
+        }
+
+        if (changes.isEmpty() && !event.isCreated()) {
+            return Optional.empty();
+        }
+
+        var action = event.isCreated() ? Action.CREATED : Action.UPDATED;
+        return Optional.of(new TaskHistoryRecord(event.taskId(), changedAt, action, author, changes,
+            event.after().getTaskStatusId()));
+    }
+
+    /**
+     * The task as this record left it, given the task as the previous record of the task left it, or
+     * {@code null} when that is unknown. Only the status, assignee and labels are restored.
+     */
+    public TaskDTO replay(TaskDTO before) {
+        var task = new TaskDTO();
+        task.setId(taskId);
+        task.setTaskStatusId(taskStatusId);
+
+        if (before != null) {
+            task.setStatus(before.getStatus());
+            task.setAssigneeId(before.getAssigneeId());
+            task.setTaskLabelIds(before.getTaskLabelIds());
+        }
+
+        for (var change : changes) {
+            var to = change.to();
+
+            if (change.field().equals("status")) {
+                task.setStatus(to);
+            } else if (change.field().equals("assignee_id")) {
+                task.setAssigneeId(to == null ? null : Long.valueOf(to));
+            } else if (change.field().equals("taskLabelIds")) {
+                task.setTaskLabelIds(to == null || to.isEmpty()
+                    ? List.of()
+                    : Arrays.stream(to.split(",")).map(Long::valueOf).toList());
+            }
+        }
+
+        return task;
+    }
+
+    private static String valueOf(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
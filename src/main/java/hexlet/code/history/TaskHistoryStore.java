@@ -0,0 +1,224 @@
+package hexlet.code.history;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import hexlet.code.component.TaskHistoryProperties;
+import hexlet.code.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records task changes after commit without holding up the request: records are queued and a single writer
+ * thread drains them in batches into the {@link TaskHistoryLog}.
+ */
+@Slf4j
+@Component
+public class TaskHistoryStore {
+
+    private static final long POLL_MILLIS = 200;
+    private static final long RETRY_MILLIS = 1_000;
+
+    private final AtomicLong queued = new AtomicLong();
+    private final Lock progressLock = new ReentrantLock();
+    private final Condition progress = progressLock.newCondition();
+
+    private long processed;
+    private Counter dropped;
+
+    private BlockingQueue<TaskHistoryRecord> queue;
+    private TaskHistoryLog historyLog;
+    private Thread writer;
+    private Path tempDir;
+    private volatile boolean running;
+
+    @Autowired
+    private TaskHistoryProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void open() throws IOException {
+        var dir = properties.getDir();
+
+        if (dir == null || dir.isBlank()) {
+            tempDir = Files.createTempDirectory("task-history");
+        }
+
+        var path = tempDir != null ? tempDir : Path.of(dir);
+        historyLog = TaskHistoryLog.open(path, (int) properties.getSegmentSize().toBytes());
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        dropped = meterRegistry.counter("tasks.history.dropped");
+        running = true;
+        writer = new Thread(this::run, "task-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        writer.join();
+        historyLog.close();
+
+        if (tempDir != null) {
+            try (var files = Files.walk(tempDir)) {
+                for (var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs ahead of the other listeners, so a change is queued for the log before anything that replays the
+     * log, like {@code TaskReports}, hears of it.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) {
+        TaskHistoryRecord.of(event, currentAuthor(), Instant.now()).ifPresent(this::enqueue);
+    }
+
+    public int count(long taskId) {
+        return historyLog.count(taskId);
+    }
+
+    public List<TaskHistoryRecord> find(long taskId, int offset, int limit) {
+        return historyLog.read(taskId, offset, limit);
+    }
+
+    /**
+     * Feeds every record written so far to {@code consumer}, oldest first; see {@link TaskHistoryLog#replay}.
+     */
+    public void replay(Consumer<TaskHistoryRecord> consumer) {
+        historyLog.replay(consumer);
+    }
+
+    /**
+     * Waits until everything queued so far has been written or given up on.
+     */
+    public void flush() throws InterruptedException {
+        var target = queued.get();
+
+        progressLock.lock();
+        try {
+            while (processed < target) {
+                progress.await();
+            }
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    /**
+     * Never holds up the committing request: when the writer falls a whole queue behind, the record is dropped
+     * and counted in {@code tasks.history.dropped}.
+     */
+    private void enqueue(TaskHistoryRecord record) {
+        if (queue.offer(record)) {
+            queued.incrementAndGet();
+        } else {
+            dropped.increment();
+            log.debug("Task history queue is full, dropped a record of task {}", record.taskId());
+        }
+    }
+
+    private void run() {
+        var batch = new ArrayList<TaskHistoryRecord>(properties.getBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the batch record by record, retrying failed writes until they succeed or the store shuts down. A
+     * record the log rejects outright is dropped rather than retried forever.
+     */
+    private void write(List<TaskHistoryRecord> batch) throws InterruptedException {
+        var next = 0;
+
+        while (next < batch.size()) {
+            var record = batch.get(next);
+
+            try {
+                historyLog.append(record);
+            } catch (IllegalArgumentException e) {
+                log.error("Dropped unwritable task history record of task {}", record.taskId(), e);
+                dropped.increment();
+            } catch (IOException | RuntimeException e) {
+                if (running) {
+                    log.error("Failed to write task history, retrying in {} ms", RETRY_MILLIS, e);
+                    TimeUnit.MILLISECONDS.sleep(RETRY_MILLIS);
+                    continue;
+                }
+
+                var rest = new ArrayList<TaskHistoryRecord>();
+                queue.drainTo(rest);
+
+                var lost = batch.size() - next + rest.size();
+                log.error("Failed to write task history on shutdown, {} records are lost", lost, e);
+                dropped.increment(lost);
+                advance(lost);
+                return;
+            }
+
+            next++;
+            advance(1);
+        }
+    }
+
+    private void advance(int records) {
+        progressLock.lock();
+        try {
+            processed += records;
+            progress.signalAll();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    private static String currentAuthor() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
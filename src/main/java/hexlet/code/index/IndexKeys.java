@@ -0,0 +1,29 @@
+package hexlet.code.index;
+
+/**
+ * Task ids as bitmap keys. Bitmaps hold unsigned 32-bit values, so ids up to {@link #MAX_ID} fit; an index that
+ * meets a larger id stops answering and leaves its queries to SQL.
+ */
+public final class IndexKeys {
+
+    public static final long MAX_ID = 0xFFFF_FFFFL;
+
+    private IndexKeys() {
+    }
+
+    public static boolean fits(long id) {
+        return id >= 0 && id <= MAX_ID;
+    }
+
+    public static int toKey(long id) {
+        if (!fits(id)) {
+            throw new IllegalArgumentException("Id is out of the index range: " + id);
+        }
+
+        return (int) id;
+    }
+
+    public static long toId(int key) {
+        return Integer.toUnsignedLong(key);
+    }
+}
@@ -0,0 +1,90 @@
+package hexlet.code.index;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds the live instance of an in-memory index and rebuilds it off to the side, so readers keep the old
+ * instance until the new one is complete. Changes arriving during a rebuild go to both instances, and the scan
+ * skips the ids they touched: the rows it reads may predate the change.
+ */
+public final class SwappableIndex<T> {
+
+    private final Supplier<T> factory;
+
+    private volatile T current;
+
+    private volatile Rebuild<T> rebuild;
+
+    private volatile boolean ready;
+
+    public SwappableIndex(Supplier<T> factory) {
+        this.factory = factory;
+        this.current = factory.get();
+    }
+
+    public T current() {
+        return current;
+    }
+
+    /**
+     * Whether a rebuild has completed at least once.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Applies a committed change to task {@code id}. The change must be idempotent: around a swap it can reach
+     * the new instance twice.
+     */
+    public void update(long id, Consumer<T> change) {
+        var pending = rebuild;
+        change.accept(current);
+
+        if (pending != null) {
+            pending.apply(id, change, true);
+        }
+    }
+
+    /**
+     * Fills a fresh instance through {@code scan}, which reports every row as an id and the change loading it,
+     * then swaps it in. Rebuilds run one at a time.
+     */
+    public synchronized void rebuild(Consumer<BiConsumer<Long, Consumer<T>>> scan) {
+        var pending = new Rebuild<T>(factory.get());
+        rebuild = pending;
+
+        try {
+            scan.accept((id, load) -> pending.apply(id, load, false));
+            current = pending.index;
+            ready = true;
+        } finally {
+            rebuild = null;
+        }
+    }
+
+    private static final class Rebuild<T> {
+
+        private final T index;
+
+        private final Set<Long> touched = new HashSet<>();
+
+        private Rebuild(T index) {
+            this.index = index;
+        }
+
+        private synchronized void apply(long id, Consumer<T> change, boolean live) {
+            if (live) {
+                touched.add(id);
+            } else if (touched.contains(id)) {
+                return;
+            }
+
+            change.accept(index);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package hexlet.code.index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskFacetsDTO;
+import hexlet.code.dto.TaskParamsDTO;
+
+/**
+ * Bitmaps of task ids per assignee, per status and per label. Filters are answered by intersecting the
+ * bitmaps of the requested values; the title filter is left to {@link TaskTitleIndex}. Statuses are indexed
+ * by id and translated from and to slugs on every query, so renaming a status never touches the bitmaps.
+ */
+public class TaskBitmapIndex {
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byAssignee = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byStatus = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byLabel = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Function<String, Optional<Long>> statusIds;
+    private final Function<Long, Optional<String>> statusSlugs;
+
+    private record Entry(Long assigneeId, Long taskStatusId, List<Long> labelIds) {
+    }
+
+    public TaskBitmapIndex(Function<String, Optional<Long>> statusIds, Function<Long, Optional<String>> statusSlugs) {
+        this.statusIds = statusIds;
+        this.statusSlugs = statusSlugs;
+    }
+
+    public static boolean isFiltered(TaskParamsDTO params) {
+        return params.getAssigneeId() != null
+            || params.getStatus() != null
+            || params.getLabelId() != null
+            || params.getLabelIdsAny() != null
+            || params.getLabelIdsAll() != null;
+    }
+
+    public void put(TaskDTO task) {
+        var key = IndexKeys.toKey(task.getId());
+        var labelIds = task.getTaskLabelIds() == null ? List.<Long>of() : List.copyOf(task.getTaskLabelIds());
+        var entry = new Entry(task.getAssigneeId(), task.getTaskStatusId(), labelIds);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            entries.put(key, entry);
+            all.add(key);
+
+            if (entry.assigneeId() != null) {
+                byAssignee.computeIfAbsent(entry.assigneeId(), k -> new RoaringBitmap()).add(key);
+            }
+
+            if (entry.taskStatusId() != null) {
+                byStatus.computeIfAbsent(entry.taskStatusId(), k -> new RoaringBitmap()).add(key);
+            }
+
+            entry.labelIds().forEach(labelId -> byLabel.computeIfAbsent(labelId, k -> new RoaringBitmap()).add(key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(IndexKeys.toKey(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the tasks matching the assignee, status and label filters of {@code params}, all of them when
+     * none is set. {@code labelId} and {@code labelIdsAll} require every label, {@code labelIdsAny} at least one.
+     */
+    public RoaringBitmap match(TaskParamsDTO params) {
+        lock.readLock().lock();
+        try {
+            var result = all.clone();
+
+            if (params.getAssigneeId() != null) {
+                result.and(posting(byAssignee, params.getAssigneeId()));
+            }
+
+            if (params.getStatus() != null) {
+                var taskStatusId = statusIds.apply(params.getStatus());
+                result.and(taskStatusId.isEmpty() ? new RoaringBitmap() : posting(byStatus, taskStatusId.get()));
+            }
+
+            if (params.getLabelId() != null) {
+                result.and(posting(byLabel, params.getLabelId()));
+            }
+
+            if (params.getLabelIdsAll() != null) {
+                for (var labelId : params.getLabelIdsAll()) {
+                    result.and(posting(byLabel, labelId));
+                }
+            }
+
+            if (params.getLabelIdsAny() != null) {
+                var any = new RoaringBitmap();
+                params.getLabelIdsAny().forEach(labelId -> any.or(posting(byLabel, labelId)));
+                result.and(any);
+            }
+
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Per-value counts of the tasks within {@code within} (all of them when {@code null}) that match
+     * {@code params}. Each dimension ignores its own filter, so the counts show what selecting another
+     * value would return.
+     */
+    public TaskFacetsDTO facets(TaskParamsDTO params, RoaringBitmap within) {
+        var withoutAssignee = params.normalized();
+        withoutAssignee.setAssigneeId(null);
+
+        var withoutStatus = params.normalized();
+        withoutStatus.setStatus(null);
+
+        var withoutLabels = params.normalized();
+        withoutLabels.setLabelId(null);
+        withoutLabels.setLabelIdsAny(null);
+        withoutLabels.setLabelIdsAll(null);
+
+        lock.readLock().lock();
+        try {
+            var facets = new TaskFacetsDTO();
+            facets.setTotal(restrict(match(params), within).getLongCardinality());
+            facets.setAssignees(count(byAssignee, restrict(match(withoutAssignee), within)));
+            facets.setStatuses(bySlug(count(byStatus, restrict(match(withoutStatus), within))));
+            facets.setLabels(count(byLabel, restrict(match(withoutLabels), within)));
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(int key) {
+        var previous = entries.remove(key);
+
+        if (previous == null) {
+            return;
+        }
+
+        all.remove(key);
+        removeFrom(byAssignee, previous.assigneeId(), key);
+        removeFrom(byStatus, previous.taskStatusId(), key);
+        previous.labelIds().forEach(labelId -> removeFrom(byLabel, labelId, key));
+    }
+
+    private Map<String, Long> bySlug(Map<Long, Long> counts) {
+        var result = new TreeMap<String, Long>();
+        counts.forEach((taskStatusId, count) ->
+            statusSlugs.apply(taskStatusId).ifPresent(slug -> result.put(slug, count)));
+        return result;
+    }
+
+    private static RoaringBitmap restrict(RoaringBitmap ids, RoaringBitmap within) {
+        if (within != null) {
+            ids.and(within);
+        }
+
+        return ids;
+    }
+
+    private static <K extends Comparable<K>> Map<K, Long> count(Map<K, RoaringBitmap> postings, RoaringBitmap ids) {
+        var counts = new TreeMap<K, Long>();
+
+        postings.forEach((value, posting) -> {
+            var count = RoaringBitmap.andCardinality(ids, posting);
+
+            if (count > 0) {
+                counts.put(value, (long) count);
+            }
+        });
+
+        return counts;
+    }
+
+    private static <K> RoaringBitmap posting(Map<K, RoaringBitmap> postings, K value) {
+        return Objects.requireNonNullElseGet(postings.get(value), RoaringBitmap::new);
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> postings, K value, int key) {
+        if (value == null) {
+            return;
+        }
+
+        var posting = postings.get(value);
+        posting.remove(key);
+
+        if (posting.isEmpty()) {
+            postings.remove(value);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package hexlet.code.index;
+
+import java.util.Optional;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import hexlet.code.component.TaskStatusRegistry;
+import hexlet.code.dto.TaskFacetsDTO;
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+
+/**
+ * In-process bitmap index answering the assignee, status and label filters of the task list.
+ */
+@Component
+public class TaskFilterIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final SwappableIndex<TaskBitmapIndex> index = new SwappableIndex<>(this::newIndex);
+
+    private volatile boolean overflowed;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
+    /**
+     * Ids of the tasks matching the non-title filters of {@code params}. Empty when the index is still loading
+     * or task ids have outgrown it, or when there is nothing to filter by.
+     */
+    public Optional<RoaringBitmap> match(TaskParamsDTO params) {
+        if (!isAnswering() || !TaskBitmapIndex.isFiltered(params)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.current().match(params));
+    }
+
+    public Optional<TaskFacetsDTO> facets(TaskParamsDTO params, RoaringBitmap within) {
+        if (!isAnswering()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.current().facets(params, within));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) {
+        var id = event.taskId();
+
+        if (!IndexKeys.fits(id)) {
+            overflowed = true;
+        } else if (event.isDeleted()) {
+            index.update(id, bitmaps -> bitmaps.remove(id));
+        } else {
+            var task = event.after();
+            index.update(id, bitmaps -> bitmaps.put(task));
+        }
+    }
+
+    /**
+     * Loads the tasks into a fresh index and swaps it in; queries keep using the previous one meanwhile.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Specification<Task> all = (root, query, cb) -> cb.conjunction();
+
+        index.rebuild(load -> taskRepository.forEachChunk(all, Sort.by("id"), REBUILD_CHUNK_SIZE,
+            chunk -> chunk.forEach(task -> {
+                if (IndexKeys.fits(task.getId())) {
+                    load.accept(task.getId(), bitmaps -> bitmaps.put(task));
+                } else {
+                    overflowed = true;
+                }
+            })));
+    }
+
+    private boolean isAnswering() {
+        return index.isReady() && !overflowed;
+    }
+
+    private TaskBitmapIndex newIndex() {
+        return new TaskBitmapIndex(
+            slug -> taskStatusRegistry.findBySlug(slug).map(TaskStatusRegistry.Entry::id),
+            id -> taskStatusRegistry.findById(id).map(TaskStatusRegistry.Entry::slug)
+        );
+    }
+}
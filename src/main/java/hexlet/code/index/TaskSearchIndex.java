@@ -0,0 +1,279 @@
+package hexlet.code.index;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import hexlet.code.component.TaskSearchProperties;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Lucene index over task titles and contents. Lives in {@code tasks.search.index-dir}, or in memory when
+ * no directory is configured, and is rebuilt from the database when it does not match the tasks table.
+ * Changes are searchable right away and committed every {@code tasks.search.commit-interval}; each commit
+ * records the latest {@code updatedAt} indexed, so a restart can tell whether it missed changes.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final Map<String, Float> WEIGHTS = Map.of(TITLE, 2.0f, CONTENT, 1.0f);
+    private static final String GENERATION = "generation";
+    private static final String HIGH_WATER_MARK = "highWaterMark";
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final AtomicReference<Instant> highWaterMark = new AtomicReference<>(Instant.EPOCH);
+    private final Lock rebuildLock = new ReentrantLock();
+    private final Lock updateLock = new ReentrantLock();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile long generation;
+    private Set<Long> touchedDuringRebuild;
+
+    @Autowired
+    private TaskSearchProperties properties;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    public record Hit(Long id, float score) {
+    }
+
+    public record Result(List<Hit> hits, int total) {
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        var indexDir = properties.getIndexDir();
+        directory = indexDir == null || indexDir.isBlank()
+            ? new ByteBuffersDirectory()
+            : FSDirectory.open(Path.of(indexDir));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+
+        var commitData = new HashMap<String, String>();
+        var liveCommitData = writer.getLiveCommitData();
+
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+
+        generation = Long.parseLong(commitData.getOrDefault(GENERATION, "0"));
+        highWaterMark.set(Instant.parse(commitData.getOrDefault(HIGH_WATER_MARK, Instant.EPOCH.toString())));
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    public Result search(String text, int offset, int limit) {
+        if (text == null || text.isBlank()) {
+            return new Result(List.of(), 0);
+        }
+
+        var query = new SimpleQueryParser(analyzer, WEIGHTS).parse(text);
+
+        try {
+            var searcher = searcherManager.acquire();
+
+            try {
+                var top = searcher.search(query, offset + limit);
+                var storedFields = searcher.storedFields();
+                var hits = new ArrayList<Hit>();
+
+                for (var i = offset; i < top.scoreDocs.length; i++) {
+                    var scoreDoc = top.scoreDocs[i];
+                    var id = Long.valueOf(storedFields.document(scoreDoc.doc).get(ID));
+                    hits.add(new Hit(id, scoreDoc.score));
+                }
+
+                return new Result(hits, searcher.count(query));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) throws IOException {
+        updateLock.lock();
+        try {
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(event.taskId());
+            }
+
+            if (event.isDeleted()) {
+                writer.deleteDocuments(new Term(ID, String.valueOf(event.taskId())));
+            } else {
+                index(event.after());
+            }
+        } finally {
+            updateLock.unlock();
+        }
+
+        searcherManager.maybeRefresh();
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() throws IOException {
+        var latest = taskRepository.findMaxUpdatedAt();
+        var missedChanges = latest != null && latest.isAfter(highWaterMark.get());
+
+        if (missedChanges || writer.getDocStats().numDocs != taskRepository.count()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reindexes every task under a new generation, then deletes the documents of older ones. The index stays
+     * searchable throughout; changes arriving meanwhile win over the rows the scan reads, and rebuilds run one
+     * at a time.
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() throws IOException {
+        rebuildLock.lock();
+        try {
+            long current;
+
+            updateLock.lock();
+            try {
+                generation++;
+                current = generation;
+                touchedDuringRebuild = new HashSet<>();
+            } finally {
+                updateLock.unlock();
+            }
+
+            Specification<Task> all = (root, query, cb) -> cb.conjunction();
+            taskRepository.forEachChunk(all, Sort.by("id"), REBUILD_CHUNK_SIZE, this::reindex);
+
+            var stale = new BooleanQuery.Builder()
+                .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                .add(LongPoint.newExactQuery(GENERATION, current), BooleanClause.Occur.MUST_NOT)
+                .build();
+            writer.deleteDocuments(stale);
+            commit();
+            searcherManager.maybeRefresh();
+        } finally {
+            updateLock.lock();
+            try {
+                touchedDuringRebuild = null;
+            } finally {
+                updateLock.unlock();
+            }
+
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Makes the indexed changes durable. Skipped while a rebuild is running: a half-rebuilt index must not be
+     * committed with the high-water mark of the rows scanned so far.
+     */
+    @Scheduled(fixedDelayString = "${tasks.search.commit-interval:PT1M}")
+    public void commit() throws IOException {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.setLiveCommitData(Map.of(
+                    GENERATION, String.valueOf(generation),
+                    HIGH_WATER_MARK, highWaterMark.get().toString()
+                ).entrySet());
+                writer.commit();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void reindex(List<TaskDTO> chunk) {
+        updateLock.lock();
+        try {
+            for (var task : chunk) {
+                if (!touchedDuringRebuild.contains(task.getId())) {
+                    index(task);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void index(TaskDTO task) throws IOException {
+        writer.updateDocument(new Term(ID, String.valueOf(task.getId())), toDocument(task));
+
+        if (task.getUpdatedAt() != null) {
+            highWaterMark.accumulateAndGet(task.getUpdatedAt(), (left, right) -> left.isAfter(right) ? left : right);
+        }
+    }
+
+    private Document toDocument(TaskDTO task) {
+        var document = new Document();
+        document.add(new StringField(ID, String.valueOf(task.getId()), Field.Store.YES));
+        document.add(new LongPoint(GENERATION, generation));
+        document.add(new TextField(TITLE, Objects.toString(task.getName(), ""), Field.Store.NO));
+        document.add(new TextField(CONTENT, Objects.toString(task.getDescription(), ""), Field.Store.NO));
+        return document;
+    }
+}
@@ -0,0 +1,21 @@
+package hexlet.code.index;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "tasksearch")
+public class TaskSearchIndexEndpoint {
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @WriteOperation
+    public void rebuild() throws IOException {
+        taskSearchIndex.rebuild();
+    }
+}
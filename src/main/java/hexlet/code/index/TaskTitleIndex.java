@@ -0,0 +1,80 @@
+package hexlet.code.index;
+
+import java.util.Optional;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+
+/**
+ * In-process trigram index over task titles, used to answer {@code titleCont} without a LIKE scan.
+ */
+@Component
+public class TaskTitleIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1_000;
+
+    private final SwappableIndex<TrigramIndex> index = new SwappableIndex<>(TrigramIndex::new);
+
+    private volatile boolean overflowed;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    /**
+     * Ids of the tasks whose title contains {@code titleCont}, ignoring case. Empty when the index cannot
+     * answer: the query is shorter than a trigram, the index is still loading or task ids have outgrown it.
+     */
+    public Optional<RoaringBitmap> match(String titleCont) {
+        if (!index.isReady() || overflowed || !TrigramIndex.isSearchable(titleCont)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(index.current().search(titleCont));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) {
+        var id = event.taskId();
+
+        if (!IndexKeys.fits(id)) {
+            overflowed = true;
+        } else if (event.isDeleted()) {
+            index.update(id, titles -> titles.remove(id));
+        } else {
+            var name = event.after().getName();
+            index.update(id, titles -> titles.put(id, name));
+        }
+    }
+
+    /**
+     * Loads the titles into a fresh index and swaps it in; searches keep using the previous one meanwhile.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Specification<Task> all = (root, query, cb) -> cb.conjunction();
+
+        index.rebuild(load -> taskRepository.forEachChunk(all, Sort.by("id"), REBUILD_CHUNK_SIZE,
+            chunk -> chunk.forEach(task -> {
+                var id = task.getId();
+                var name = task.getName();
+
+                if (IndexKeys.fits(id)) {
+                    load.accept(id, titles -> titles.put(id, name));
+                } else {
+                    overflowed = true;
+                }
+            })));
+    }
+}
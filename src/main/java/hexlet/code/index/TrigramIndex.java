@@ -0,0 +1,135 @@
+package hexlet.code.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Case-insensitive substring index: every value is split into overlapping three-character grams, each gram
+ * keeps a bitmap of the ids containing it. A query intersects the bitmaps of its own grams and verifies the
+ * survivors against the stored values.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, RoaringBitmap> postings = new HashMap<>();
+    private final Map<Integer, String> values = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public static boolean isSearchable(String query) {
+        return query != null && query.length() >= GRAM_LENGTH;
+    }
+
+    public void put(long id, String value) {
+        var key = IndexKeys.toKey(id);
+        var normalized = normalize(value);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(key);
+            values.put(key, normalized);
+            grams(normalized).forEach(gram -> postings.computeIfAbsent(gram, k -> new RoaringBitmap()).add(key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(IndexKeys.toKey(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return values.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RoaringBitmap search(String query) {
+        if (!isSearchable(query)) {
+            throw new IllegalArgumentException("Query is shorter than " + GRAM_LENGTH + " characters");
+        }
+
+        var normalized = normalize(query);
+        var result = new RoaringBitmap();
+
+        lock.readLock().lock();
+        try {
+            var lists = new ArrayList<RoaringBitmap>();
+
+            for (var gram : grams(normalized)) {
+                var list = postings.get(gram);
+
+                if (list == null) {
+                    return result;
+                }
+
+                lists.add(list);
+            }
+
+            lists.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+            var candidates = lists.get(0).clone();
+
+            for (var i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.and(lists.get(i));
+            }
+
+            candidates.forEach((int key) -> {
+                if (values.get(key).contains(normalized)) {
+                    result.add(key);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return result;
+    }
+
+    private void removeInternal(int key) {
+        var previous = values.remove(key);
+
+        if (previous == null) {
+            return;
+        }
+
+        for (var gram : grams(previous)) {
+            var list = postings.get(gram);
+            list.remove(key);
+
+            if (list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Long> grams(String value) {
+        var grams = new HashSet<Long>();
+
+        for (var i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2));
+        }
+
+        return grams;
+    }
+}
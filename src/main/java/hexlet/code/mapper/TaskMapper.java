@@ -11,17 +11,15 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import hexlet.code.component.TaskReferenceResolver;
+import hexlet.code.component.TaskStatusRegistry;
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
 import hexlet.code.dto.TaskUpdateDTO;
-import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.model.Label;
 import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
-import hexlet.code.repository.LabelRepository;
-import hexlet.code.repository.TaskStatusRepository;
-import hexlet.code.repository.UserRepository;
 
 @Mapper(
     uses = {JsonNullableMapper.class, ReferenceMapper.class},
@@ -32,13 +30,10 @@ import hexlet.code.repository.UserRepository;
 public abstract class TaskMapper {
 
     @Autowired
-    private UserRepository userRepository;
+    private TaskReferenceResolver referenceResolver;
 
     @Autowired
-    private TaskStatusRepository taskStatusRepository;
-
-    @Autowired
-    private LabelRepository labelRepository;
+    private TaskStatusRegistry taskStatusRegistry;
 
     @Mapping(source = "assigneeId", target = "assignee", qualifiedByName = "assigneeIdToAssignee")
     @Mapping(source = "status", target = "taskStatus", qualifiedByName = "slugToTaskStatus")
@@ -46,33 +41,36 @@ public abstract class TaskMapper {
     public abstract Task map(TaskCreateDTO dto);
 
     @Mapping(source = "assignee.id", target = "assigneeId")
-    @Mapping(source = "taskStatus.slug", target = "status")
+    @Mapping(source = "taskStatus.id", target = "status", qualifiedByName = "taskStatusIdToSlug")
+    @Mapping(source = "taskStatus.id", target = "taskStatusId")
     @Mapping(source = "labels", target = "taskLabelIds", qualifiedByName = "labelsTotaskLabelIds")
     public abstract TaskDTO map(Task model);
 
     @Mapping(source = "assigneeId", target = "assignee", qualifiedByName = "assigneeIdToAssignee")
-    @Mapping(source = "status", target = "taskStatus.slug")
+    @Mapping(source = "status", target = "taskStatus", qualifiedByName = "slugToTaskStatus")
     @Mapping(source = "taskLabelIds", target = "labels", qualifiedByName = "taskLabelIdsToLabels")
     public abstract void update(TaskUpdateDTO dto, @MappingTarget Task model);
 
     @Named("assigneeIdToAssignee")
     public User assigneeIdToAssigne(Long assigneeId) {
-        return assigneeId == null ? null : userRepository.findById(assigneeId)
-            .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + assigneeId));
+        return referenceResolver.getAssignee(assigneeId);
     }
 
     @Named("slugToTaskStatus")
     public TaskStatus slugToTaskStatus(String slug) {
-        return taskStatusRepository.findBySlug(slug)
-            .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + slug));
+        return referenceResolver.getTaskStatus(slug);
+    }
+
+    @Named("taskStatusIdToSlug")
+    public String taskStatusIdToSlug(Long taskStatusId) {
+        return taskStatusRegistry.findById(taskStatusId)
+            .map(TaskStatusRegistry.Entry::slug)
+            .orElse(null);
     }
 
     @Named("taskLabelIdsToLabels")
     public List<Label> taskLabelIdsToLabels(List<Long> taskLabelIds) {
-        return taskLabelIds == null ? null : taskLabelIds.stream()
-            .map(id -> labelRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Not found: " + id)))
-            .toList();
+        return taskLabelIds == null ? null : referenceResolver.getLabels(taskLabelIds);
     }
 
     @Named("labelsTotaskLabelIds")
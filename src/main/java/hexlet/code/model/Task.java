@@ -1,20 +1,28 @@
 package hexlet.code.model;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.FetchType.LAZY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -25,16 +33,26 @@ import lombok.Setter;
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_status_rank", columnList = "task_status_id, board_rank"),
+    @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id")
+})
 public class Task implements BaseEntity {
 
+    public static final String ID_SEQUENCE = "tasks_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private Integer index;
 
-    @ManyToOne
+    @Column(name = "board_rank")
+    private String rank;
+
+    @ManyToOne(fetch = LAZY)
     private User assignee;
 
     @NotBlank
@@ -43,15 +61,23 @@ public class Task implements BaseEntity {
     private String description;
 
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     private TaskStatus taskStatus;
 
     @ManyToMany
+    @JoinTable(
+        name = "tasks_labels",
+        joinColumns = @JoinColumn(name = "task_id"),
+        inverseJoinColumns = @JoinColumn(name = "labels_id")
+    )
     private List<Label> labels = new ArrayList<>();
 
     @CreatedDate
     private LocalDate createdAt;
 
+    @LastModifiedDate
+    private Instant updatedAt;
+
     public void addLabel(Label label) {
         labels.add(label);
         label.getTasks().add(this);
@@ -0,0 +1,54 @@
+package hexlet.code.model;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Marks a deleted task, label or task status, so that delta sync can tell clients to drop it.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "tombstones", indexes = @Index(name = "idx_tombstones_deleted_at", columnList = "deleted_at"))
+public class Tombstone implements BaseEntity {
+
+    public static final String TASK = "tasks";
+    public static final String LABEL = "labels";
+    public static final String TASK_STATUS = "taskStatuses";
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @NotBlank
+    private String entityType;
+
+    @NotNull
+    private Long entityId;
+
+    @CreatedDate
+    private Instant deletedAt;
+
+    public Tombstone(String entityType, Long entityId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+    }
+}
@@ -0,0 +1,74 @@
+package hexlet.code.report;
+
+import java.time.Duration;
+
+/**
+ * Histogram of durations over exponentially growing buckets, from one minute up to about a year; everything
+ * longer lands in the last bucket. Percentiles are reported as the upper bound of the bucket they fall into.
+ * Not thread-safe; {@link TaskReportAggregates} guards its histograms.
+ */
+public final class LatencyHistogram {
+
+    private static final long FIRST_BOUND_SECONDS = 60;
+    private static final int BUCKETS = 20;
+
+    private final long[] counts = new long[BUCKETS + 1];
+    private long count;
+    private long totalSeconds;
+    private long maxSeconds;
+
+    public void record(Duration duration) {
+        var seconds = Math.max(0, duration.toSeconds());
+
+        counts[bucketOf(seconds)]++;
+        count++;
+        totalSeconds += seconds;
+        maxSeconds = Math.max(maxSeconds, seconds);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long meanSeconds() {
+        return count == 0 ? 0 : totalSeconds / count;
+    }
+
+    public long maxSeconds() {
+        return maxSeconds;
+    }
+
+    public long percentileSeconds(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        var rank = (long) Math.ceil(percentile * count);
+        var seen = 0L;
+
+        for (var i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxSeconds);
+            }
+        }
+
+        return maxSeconds;
+    }
+
+    private static int bucketOf(long seconds) {
+        var bucket = 0;
+        var bound = FIRST_BOUND_SECONDS;
+
+        while (bucket < BUCKETS && seconds > bound) {
+            bucket++;
+            bound *= 2;
+        }
+
+        return bucket;
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket < BUCKETS ? FIRST_BOUND_SECONDS << bucket : Long.MAX_VALUE;
+    }
+}
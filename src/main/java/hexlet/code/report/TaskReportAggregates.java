@@ -0,0 +1,164 @@
+package hexlet.code.report;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import hexlet.code.dto.TaskCycleTimeDTO;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskReportDTO;
+import hexlet.code.event.TaskChangedEvent;
+
+/**
+ * Cycle time per status and weekly throughput into the done status, folded from task changes and kept for all
+ * tasks, per assignee and per label. Time spent in a status is recorded when a task leaves it. Statuses are
+ * tracked by id and translated to slugs when reporting, so renaming a status is not a transition.
+ */
+public final class TaskReportAggregates {
+
+    private static final double P50 = 0.5;
+    private static final double P90 = 0.9;
+
+    private final String doneStatus;
+    private final Function<Long, Optional<String>> statusSlugs;
+    private final Map<Long, Entered> entered = new HashMap<>();
+    private final Map<Dimension, Map<Long, LatencyHistogram>> cycleTimes = new HashMap<>();
+    private final Map<Dimension, Map<LocalDate, Long>> throughput = new HashMap<>();
+
+    public enum Type {
+        ALL, ASSIGNEE, LABEL
+    }
+
+    public record Dimension(Type type, Long id) {
+        public static final Dimension ALL = new Dimension(Type.ALL, null);
+    }
+
+    private record Entered(Long statusId, Instant at) {
+    }
+
+    public TaskReportAggregates(String doneStatus, Function<Long, Optional<String>> statusSlugs) {
+        this.doneStatus = doneStatus;
+        this.statusSlugs = statusSlugs;
+    }
+
+    /**
+     * Whether {@code event} starts from the state tracked for its task: a create of an unknown task, or an
+     * update or delete of a task in the status the event starts from. Lets a change that may already have been
+     * folded in be told apart from a newer one.
+     */
+    public synchronized boolean follows(TaskChangedEvent event) {
+        var previous = entered.get(event.taskId());
+
+        if (event.isCreated()) {
+            return previous == null;
+        }
+
+        return previous != null && Objects.equals(previous.statusId(), event.before().getTaskStatusId());
+    }
+
+    public synchronized void apply(TaskChangedEvent event, Instant at) {
+        if (event.isDeleted()) {
+            entered.remove(event.taskId());
+            return;
+        }
+
+        var task = event.after();
+        var previous = entered.get(task.getId());
+
+        if (previous != null && Objects.equals(previous.statusId(), task.getTaskStatusId())) {
+            return;
+        }
+
+        if (previous != null) {
+            var spent = Duration.between(previous.at(), at);
+
+            for (var dimension : dimensionsOf(task)) {
+                cycleTimes.computeIfAbsent(dimension, d -> new HashMap<>())
+                    .computeIfAbsent(previous.statusId(), statusId -> new LatencyHistogram())
+                    .record(spent);
+            }
+        }
+
+        entered.put(task.getId(), new Entered(task.getTaskStatusId(), at));
+
+        if (doneStatus.equals(task.getStatus())) {
+            countDone(task, at);
+        }
+    }
+
+    /**
+     * Returns cycle times for every status seen that still exists and throughput for the last {@code weeks}
+     * weeks, keyed by the Monday (UTC) each week starts on.
+     */
+    public synchronized TaskReportDTO report(Dimension dimension, int weeks, Instant now) {
+        var cycleTimeStats = new TreeMap<String, TaskCycleTimeDTO>();
+
+        cycleTimes.getOrDefault(dimension, Map.of()).forEach((statusId, histogram) -> {
+            var status = statusSlugs.apply(statusId);
+
+            if (status.isEmpty()) {
+                return;
+            }
+
+            var stats = new TaskCycleTimeDTO();
+            stats.setCount(histogram.count());
+            stats.setMeanSeconds(histogram.meanSeconds());
+            stats.setP50Seconds(histogram.percentileSeconds(P50));
+            stats.setP90Seconds(histogram.percentileSeconds(P90));
+            stats.setMaxSeconds(histogram.maxSeconds());
+            cycleTimeStats.put(status.get(), stats);
+        });
+
+        var counts = throughput.getOrDefault(dimension, Map.of());
+        var weekly = new TreeMap<String, Long>();
+        var week = weekOf(now);
+
+        for (var i = 0; i < weeks; i++) {
+            weekly.put(week.toString(), counts.getOrDefault(week, 0L));
+            week = week.minusWeeks(1);
+        }
+
+        var report = new TaskReportDTO();
+        report.setCycleTimes(cycleTimeStats);
+        report.setThroughput(weekly);
+        return report;
+    }
+
+    private void countDone(TaskDTO task, Instant at) {
+        var week = weekOf(at);
+
+        for (var dimension : dimensionsOf(task)) {
+            throughput.computeIfAbsent(dimension, d -> new HashMap<>()).merge(week, 1L, Long::sum);
+        }
+    }
+
+    private static List<Dimension> dimensionsOf(TaskDTO task) {
+        var dimensions = new ArrayList<Dimension>();
+        dimensions.add(Dimension.ALL);
+
+        if (task.getAssigneeId() != null) {
+            dimensions.add(new Dimension(Type.ASSIGNEE, task.getAssigneeId()));
+        }
+
+        if (task.getTaskLabelIds() != null) {
+            task.getTaskLabelIds().forEach(labelId -> dimensions.add(new Dimension(Type.LABEL, labelId)));
+        }
+
+        return dimensions;
+    }
+
+    private static LocalDate weekOf(Instant at) {
+        return LocalDate.ofInstant(at, ZoneOffset.UTC).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,159 @@
+package hexlet.code.report;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import hexlet.code.component.TaskReportProperties;
+import hexlet.code.component.TaskStatusRegistry;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskReportDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.history.TaskHistoryRecord;
+import hexlet.code.history.TaskHistoryStore;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Keeps {@link TaskReportAggregates} up to date from committed task changes. A rebuild replays the task history
+ * log into fresh aggregates and swaps them in, so cycle times and throughput survive a restart with the times
+ * the transitions actually happened. Changes committed while a rebuild reads the log are buffered and replayed
+ * into the new aggregates; history records the log had to drop are missing from the rebuilt reports as well.
+ */
+@Component
+public class TaskReports {
+
+    private final AtomicReference<TaskReportAggregates> aggregates = new AtomicReference<>();
+    private final Lock rebuildLock = new ReentrantLock();
+    private final Lock updateLock = new ReentrantLock();
+
+    private List<Change> changesDuringRebuild;
+
+    @Autowired
+    private TaskReportProperties properties;
+
+    @Autowired
+    private TaskHistoryStore historyStore;
+
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
+    private record Change(TaskChangedEvent event, Instant at) {
+    }
+
+    @PostConstruct
+    public void init() {
+        aggregates.set(newAggregates());
+    }
+
+    public TaskReportDTO report(TaskReportAggregates.Dimension dimension, Integer weeks) {
+        var size = weeks == null
+            ? properties.getDefaultWeeks()
+            : Math.max(1, Math.min(weeks, properties.getMaxWeeks()));
+
+        return aggregates.get().report(dimension, size, Instant.now());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) {
+        var change = new Change(event, Instant.now());
+
+        updateLock.lock();
+        try {
+            aggregates.get().apply(change.event(), change.at());
+
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds run one at a time. {@link TaskHistoryStore} hears of every change before this component does,
+     * so a change missed by the buffer is already queued for the log and the flush gets it written before the
+     * replay. A buffered change the replay has already folded in no longer follows the replayed state and is
+     * skipped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            var rebuilt = newAggregates();
+            startBuffering();
+            historyStore.flush();
+
+            Map<Long, TaskDTO> tasks = new HashMap<>();
+            historyStore.replay(record -> replay(rebuilt, tasks, record));
+
+            updateLock.lock();
+            try {
+                changesDuringRebuild.stream()
+                    .filter(change -> rebuilt.follows(change.event()))
+                    .forEach(change -> rebuilt.apply(change.event(), change.at()));
+                aggregates.set(rebuilt);
+            } finally {
+                updateLock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stopBuffering();
+            rebuildLock.unlock();
+        }
+    }
+
+    private void startBuffering() {
+        updateLock.lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void stopBuffering() {
+        updateLock.lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private TaskReportAggregates newAggregates() {
+        return new TaskReportAggregates(properties.getDoneStatus(),
+            id -> taskStatusRegistry.findById(id).map(TaskStatusRegistry.Entry::slug));
+    }
+
+    private static void replay(TaskReportAggregates rebuilt, Map<Long, TaskDTO> tasks, TaskHistoryRecord record) {
+        var before = tasks.get(record.taskId());
+
+        if (record.action() == TaskHistoryRecord.Action.DELETED) {
+            tasks.remove(record.taskId());
+
+            if (before != null) {
+                rebuilt.apply(TaskChangedEvent.deleted(before), record.changedAt());
+            }
+
+            return;
+        }
+
+        var after = record.replay(before);
+        tasks.put(record.taskId(), after);
+        rebuilt.apply(before == null
+            ? TaskChangedEvent.created(after)
+            : TaskChangedEvent.updated(before, after), record.changedAt());
+    }
+}
@@ -0,0 +1,19 @@
+package hexlet.code.report;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "taskreports")
+public class TaskReportsEndpoint {
+
+    @Autowired
+    private TaskReports taskReports;
+
+    @WriteOperation
+    public void rebuild() {
+        taskReports.rebuild();
+    }
+}
@@ -1,15 +1,26 @@
 package hexlet.code.repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import hexlet.code.model.Label;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface LabelRepository extends JpaRepository<Label, Long> {
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "labelsByName")
+    })
     Optional<Label> findByName(String name);
+
     boolean existsByName(String name);
     long countByName(String name);
+    List<Label> findByUpdatedAtAfter(Instant since);
 }
@@ -1,14 +1,93 @@
 package hexlet.code.repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
     Optional<Task> findByName(String name);
+
+    @EntityGraph(attributePaths = "labels")
+    Optional<Task> findWithLabelsById(Long id);
+
+    @Query("select max(t.rank) from Task t where t.taskStatus.id = :taskStatusId")
+    String findMaxRank(@Param("taskStatusId") Long taskStatusId);
+
+    @Query("select max(t.rank) from Task t where t.taskStatus.id = :taskStatusId and t.id <> :excludedId")
+    String findMaxRankExcluding(@Param("taskStatusId") Long taskStatusId, @Param("excludedId") Long excludedId);
+
+    @Query("""
+        select min(t.rank) from Task t
+        where t.taskStatus.id = :taskStatusId and t.rank > :rank and t.id <> :excludedId
+        """)
+    String findNextRank(@Param("taskStatusId") Long taskStatusId, @Param("rank") String rank,
+        @Param("excludedId") Long excludedId);
+
+    @Query("""
+        select max(t.rank) from Task t
+        where t.taskStatus.id = :taskStatusId and t.rank < :rank and t.id <> :excludedId
+        """)
+    String findPreviousRank(@Param("taskStatusId") Long taskStatusId, @Param("rank") String rank,
+        @Param("excludedId") Long excludedId);
+
+    @Query("select max(t.updatedAt) from Task t")
+    Instant findMaxUpdatedAt();
+
+    @Query("select t.id from Task t where t.taskStatus.id = :taskStatusId order by t.rank asc nulls last, t.id")
+    List<Long> findIdsInRankOrder(@Param("taskStatusId") Long taskStatusId);
+
+    @Query("""
+        select count(t) from Task t
+        where t.taskStatus.id = :taskStatusId
+            and (t.rank is null or length(t.rank) > :maxLength or lower(t.rank) <> t.rank)
+        """)
+    long countNeedingRebalance(@Param("taskStatusId") Long taskStatusId, @Param("maxLength") int maxLength);
+
+    @Modifying
+    @Query("update Task t set t.rank = :rank, t.taskStatus = :taskStatus, t.updatedAt = :updatedAt where t.id = :id")
+    int move(@Param("id") Long id, @Param("rank") String rank, @Param("taskStatus") TaskStatus taskStatus,
+        @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("update Task t set t.assignee = :assignee, t.updatedAt = :updatedAt where t.id in :ids")
+    int updateAssignee(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee,
+        @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("update Task t set t.updatedAt = :updatedAt where t.id in :ids")
+    int touch(@Param("ids") Collection<Long> ids, @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks_labels"))
+    @Query(value = """
+        insert into tasks_labels (task_id, labels_id)
+        select t.id, l.id from tasks t cross join labels l
+        where t.id in (:ids) and l.id in (:labelIds)
+        and not exists (select 1 from tasks_labels tl where tl.task_id = t.id and tl.labels_id = l.id)
+        """, nativeQuery = true)
+    int addLabels(@Param("ids") Collection<Long> ids, @Param("labelIds") Collection<Long> labelIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks_labels"))
+    @Query(value = "delete from tasks_labels where task_id in (:ids) and labels_id in (:labelIds)",
+        nativeQuery = true)
+    int removeLabels(@Param("ids") Collection<Long> ids, @Param("labelIds") Collection<Long> labelIds);
 }
@@ -0,0 +1,19 @@
+package hexlet.code.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.model.Task;
+
+public interface TaskRepositoryCustom {
+    List<TaskDTO> findDTOs(Specification<Task> spec, Sort sort, int limit);
+    Optional<TaskDTO> findDTOById(Long id);
+    List<Long> findIds(Specification<Task> spec);
+    List<Long> findIds(Specification<Task> spec, Sort sort, int limit);
+    void forEachChunk(Specification<Task> spec, Sort sort, int chunkSize, Consumer<List<TaskDTO>> consumer);
+}
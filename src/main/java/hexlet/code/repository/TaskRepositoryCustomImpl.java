@@ -0,0 +1,180 @@
+package hexlet.code.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import hexlet.code.component.TaskStatusRegistry;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.JoinType;
+
+/**
+ * Read-only projections of tasks straight into {@link TaskDTO}: only the columns the DTO needs are
+ * selected, so no entities, proxies or persistence context entries are created.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
+    @Override
+    public List<TaskDTO> findDTOs(Specification<Task> spec, Sort sort, int limit) {
+        var tasks = createQuery(spec, sort)
+            .setMaxResults(limit)
+            .getResultList()
+            .stream()
+            .map(this::toDTO)
+            .toList();
+
+        fillLabelIds(tasks);
+        return tasks;
+    }
+
+    @Override
+    public Optional<TaskDTO> findDTOById(Long id) {
+        Specification<Task> byId = (root, query, cb) -> cb.equal(root.get("id"), id);
+        return findDTOs(byId, Sort.unsorted(), 1).stream().findFirst();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> spec) {
+        return createIdQuery(spec, Sort.unsorted()).getResultList();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> spec, Sort sort, int limit) {
+        return createIdQuery(spec, sort)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public void forEachChunk(Specification<Task> spec, Sort sort, int chunkSize, Consumer<List<TaskDTO>> consumer) {
+        var query = createQuery(spec, sort)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, chunkSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        try (var rows = query.getResultStream()) {
+            var chunk = new ArrayList<TaskDTO>(chunkSize);
+            var iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+                chunk.add(toDTO(iterator.next()));
+
+                if (chunk.size() == chunkSize) {
+                    emit(chunk, consumer);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                emit(chunk, consumer);
+            }
+        }
+    }
+
+    private void emit(List<TaskDTO> chunk, Consumer<List<TaskDTO>> consumer) {
+        fillLabelIds(chunk);
+        consumer.accept(chunk);
+        entityManager.clear();
+    }
+
+    private TypedQuery<Long> createIdQuery(Specification<Task> spec, Sort sort) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Long.class);
+        var root = query.from(Task.class);
+        query.select(root.get("id"));
+
+        var predicate = spec.toPredicate(root, query, cb);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private TypedQuery<Tuple> createQuery(Specification<Task> spec, Sort sort) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        var root = query.from(Task.class);
+        var assignee = root.join("assignee", JoinType.LEFT);
+
+        query.multiselect(
+            root.get("id").alias("id"),
+            root.get("index").alias("index"),
+            root.get("rank").alias("rank"),
+            root.get("name").alias("name"),
+            root.get("description").alias("description"),
+            root.get("createdAt").alias("createdAt"),
+            root.get("updatedAt").alias("updatedAt"),
+            assignee.get("id").alias("assigneeId"),
+            root.get("taskStatus").get("id").alias("taskStatusId")
+        );
+
+        var predicate = spec.toPredicate(root, query, cb);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+
+    private TaskDTO toDTO(Tuple row) {
+        var dto = new TaskDTO();
+        dto.setId(row.get("id", Long.class));
+        dto.setIndex(row.get("index", Integer.class));
+        dto.setRank(row.get("rank", String.class));
+        dto.setName(row.get("name", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setCreatedAt(row.get("createdAt", LocalDate.class));
+        dto.setUpdatedAt(row.get("updatedAt", Instant.class));
+        dto.setAssigneeId(row.get("assigneeId", Long.class));
+        dto.setTaskStatusId(row.get("taskStatusId", Long.class));
+        dto.setStatus(taskStatusRegistry.findById(dto.getTaskStatusId())
+            .map(TaskStatusRegistry.Entry::slug)
+            .orElse(null));
+        return dto;
+    }
+
+    private void fillLabelIds(Collection<TaskDTO> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        var ids = tasks.stream().map(TaskDTO::getId).toList();
+        var rows = entityManager
+            .createQuery("select t.id, l.id from Task t join t.labels l where t.id in :ids", Object[].class)
+            .setParameter("ids", ids)
+            .getResultList();
+
+        Map<Long, List<Long>> labelIds = new HashMap<>();
+        rows.forEach(row -> labelIds.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((Long) row[1]));
+
+        tasks.forEach(task -> task.setTaskLabelIds(labelIds.getOrDefault(task.getId(), new ArrayList<>())));
+    }
+}
@@ -1,15 +1,40 @@
 package hexlet.code.repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import hexlet.code.model.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "taskStatusesByName")
+    })
     Optional<TaskStatus> findByName(String name);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "taskStatusesBySlug")
+    })
     Optional<TaskStatus> findBySlug(String slug);
+
     boolean existsBySlug(String slug);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from TaskStatus s where s.id = :id")
+    Optional<TaskStatus> lockById(@Param("id") Long id);
+
+    List<TaskStatus> findByUpdatedAtAfter(Instant since);
 }
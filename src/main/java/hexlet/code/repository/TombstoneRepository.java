@@ -0,0 +1,21 @@
+package hexlet.code.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import hexlet.code.model.Tombstone;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+    List<Tombstone> findByDeletedAtAfter(Instant since);
+
+    @Modifying
+    @Query("delete from Tombstone t where t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
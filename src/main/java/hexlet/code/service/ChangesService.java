@@ -0,0 +1,139 @@
+package hexlet.code.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import hexlet.code.component.SyncProperties;
+import hexlet.code.dto.ChangesDTO;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.mapper.LabelMapper;
+import hexlet.code.mapper.TaskStatusMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.Tombstone;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.TombstoneRepository;
+import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.SyncToken;
+
+@Service
+public class ChangesService {
+
+    private static final Sort SYNC_ORDER = Sort.by("updatedAt", "id");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSpecification specBuilder;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private LabelMapper labelMapper;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private TaskStatusMapper taskStatusMapper;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private SyncProperties syncProperties;
+
+    /**
+     * Returns what changed after the token, or a full snapshot when there is no token or it was issued before
+     * the tombstone retention. Tasks are paged in {@code (updatedAt, id)} order: while {@code hasMore} is set the
+     * token continues right after the last task returned. The final token is derived from the newest change
+     * actually read, moved back by the overlap, so rows a lagging replica has not shown yet are picked up by
+     * the next poll instead of being skipped.
+     */
+    @Transactional(readOnly = true)
+    public ChangesDTO getChanges(String token) {
+        var now = Instant.now();
+        var position = token == null ? null : SyncToken.decode(token);
+        var full = position == null || position.issuedAt().isBefore(now.minus(syncProperties.getRetention()));
+
+        var since = full ? null : position.since();
+        var afterId = full ? null : position.afterId();
+
+        var tasks = taskRepository.findDTOs(specBuilder.updatedAfter(since, afterId), SYNC_ORDER,
+            syncProperties.getPageSize() + 1);
+        var hasMore = tasks.size() > syncProperties.getPageSize();
+
+        if (hasMore) {
+            tasks = tasks.subList(0, syncProperties.getPageSize());
+        }
+
+        var labels = full ? labelRepository.findAll() : labelRepository.findByUpdatedAtAfter(since);
+        var taskStatuses = full ? taskStatusRepository.findAll() : taskStatusRepository.findByUpdatedAtAfter(since);
+        var tombstones = full ? List.<Tombstone>of() : tombstoneRepository.findByDeletedAtAfter(since);
+
+        var changes = new ChangesDTO();
+        changes.setFull(full);
+        changes.setHasMore(hasMore);
+        changes.setTasks(tasks);
+        changes.setLabels(labels.stream().map(labelMapper::map).toList());
+        changes.setTaskStatuses(taskStatuses.stream().map(taskStatusMapper::map).toList());
+        changes.setDeleted(groupDeleted(tombstones));
+
+        if (hasMore) {
+            var last = tasks.get(tasks.size() - 1);
+            changes.setToken(new SyncToken(last.getUpdatedAt(), last.getId(), now).encode());
+            return changes;
+        }
+
+        // A continuation position is itself a change the client has already received.
+        var newest = Stream.of(
+                tasks.stream().map(TaskDTO::getUpdatedAt),
+                labels.stream().map(Label::getUpdatedAt),
+                taskStatuses.stream().map(TaskStatus::getUpdatedAt),
+                tombstones.stream().map(Tombstone::getDeletedAt),
+                Stream.ofNullable(afterId == null ? null : since))
+            .flatMap(Function.identity())
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder());
+
+        var next = newest.map(at -> at.minus(syncProperties.getOverlap()))
+            .orElse(since == null ? Instant.EPOCH : since);
+        changes.setToken(new SyncToken(next, null, now).encode());
+
+        return changes;
+    }
+
+    @Scheduled(fixedDelayString = "${sync.prune-delay:PT1H}")
+    @Transactional
+    public void pruneTombstones() {
+        tombstoneRepository.deleteOlderThan(Instant.now().minus(syncProperties.getRetention()));
+    }
+
+    private static Map<String, List<Long>> groupDeleted(List<Tombstone> tombstones) {
+        Map<String, List<Long>> deleted = new TreeMap<>();
+
+        for (var tombstone : tombstones) {
+            deleted.computeIfAbsent(tombstone.getEntityType(), type -> new ArrayList<>())
+                .add(tombstone.getEntityId());
+        }
+
+        return deleted;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import hexlet.code.dto.LabelCreateDTO;
 import hexlet.code.dto.LabelDTO;
@@ -11,7 +12,9 @@ import hexlet.code.dto.LabelUpdateDTO;
 import hexlet.code.exception.DuplicateNameException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.LabelMapper;
+import hexlet.code.model.Tombstone;
 import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TombstoneRepository;
 
 @Service
 public class LabelService {
@@ -22,6 +25,10 @@ public class LabelService {
     @Autowired
     private LabelMapper labelMapper;
 
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Transactional(readOnly = true)
     public List<LabelDTO> getAll() {
         var labels = labelRepository.findAll();
 
@@ -30,6 +37,7 @@ public class LabelService {
             .toList();
     }
 
+    @Transactional(readOnly = true)
     public LabelDTO findById(Long id) {
         var label = labelRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
@@ -37,6 +45,7 @@ public class LabelService {
         return labelMapper.map(label);
     }
 
+    @Transactional
     public LabelDTO create(LabelCreateDTO data) {
         var name = data.getName();
 
@@ -49,6 +58,7 @@ public class LabelService {
         return labelMapper.map(label);
     }
 
+    @Transactional
     public LabelDTO update(LabelUpdateDTO data, Long id) {
         var label = labelRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
@@ -58,7 +68,11 @@ public class LabelService {
         return labelMapper.map(label);
     }
 
+    @Transactional
     public void delete(Long id) {
-        labelRepository.deleteById(id);
+        labelRepository.findById(id).ifPresent(label -> {
+            labelRepository.delete(label);
+            tombstoneRepository.save(new Tombstone(Tombstone.LABEL, id));
+        });
     }
 }
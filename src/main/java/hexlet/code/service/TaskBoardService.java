@@ -0,0 +1,250 @@
+package hexlet.code.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import hexlet.code.component.TaskPageProperties;
+import hexlet.code.component.TaskReferenceResolver;
+import hexlet.code.component.TaskStatusRegistry;
+import hexlet.code.dto.TaskBoardColumnDTO;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskMoveDTO;
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.exception.InvalidMoveException;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.RankKeys;
+
+@Service
+public class TaskBoardService {
+
+    public static final int MAX_RANK_LENGTH = 24;
+
+    private static final Sort BOARD_ORDER = Sort.by("rank", "id");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSpecification specBuilder;
+
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
+    @Autowired
+    private TaskReferenceResolver referenceResolver;
+
+    @Autowired
+    private TaskPageProperties pageProperties;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<TaskBoardColumnDTO> getBoard(TaskParamsDTO params, Integer limit) {
+        var size = limit == null
+            ? pageProperties.getDefaultSize()
+            : Math.max(1, Math.min(limit, pageProperties.getMaxSize()));
+        var normalized = params.normalized();
+        var columns = new ArrayList<TaskBoardColumnDTO>();
+
+        for (var taskStatus : taskStatusRegistry.findAll()) {
+            if (normalized.getStatus() != null && !normalized.getStatus().equals(taskStatus.slug())) {
+                continue;
+            }
+
+            var columnParams = normalized.normalized();
+            columnParams.setStatus(taskStatus.slug());
+
+            var column = new TaskBoardColumnDTO();
+            column.setStatus(taskStatus.slug());
+            column.setName(taskStatus.name());
+            column.setTasks(taskRepository.findDTOs(specBuilder.build(columnParams), BOARD_ORDER, size));
+            columns.add(column);
+        }
+
+        return columns;
+    }
+
+    /**
+     * Puts the task between {@code afterId} and {@code beforeId} in the column of {@code status}. A missing
+     * neighbour is taken from the column, so either one alone is enough; with neither the task goes last.
+     * Only the moved task is written.
+     */
+    @Transactional
+    public TaskDTO move(Long id, TaskMoveDTO data) {
+        var before = taskRepository.findDTOById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
+        var taskStatus = referenceResolver.getTaskStatus(data.getStatus() == null
+            ? before.getStatus()
+            : data.getStatus());
+        var taskStatusId = taskStatus.getId();
+
+        if (id.equals(data.getAfterId()) || id.equals(data.getBeforeId())) {
+            throw new InvalidMoveException("Task " + id + " cannot be its own neighbour");
+        }
+
+        rebalanceIfNeeded(taskStatusId);
+
+        var lo = neighbourRank(data.getAfterId(), taskStatusId);
+        var hi = neighbourRank(data.getBeforeId(), taskStatusId);
+
+        if (data.getAfterId() == null && data.getBeforeId() == null) {
+            lo = taskRepository.findMaxRankExcluding(taskStatusId, id);
+        } else if (data.getBeforeId() == null) {
+            hi = taskRepository.findNextRank(taskStatusId, lo, id);
+        } else if (data.getAfterId() == null) {
+            lo = taskRepository.findPreviousRank(taskStatusId, hi, id);
+        } else if (lo.compareTo(hi) >= 0) {
+            throw new InvalidMoveException("Task " + data.getAfterId() + " is not above " + data.getBeforeId());
+        }
+
+        taskRepository.move(id, RankKeys.between(lo, hi), taskStatus, Instant.now());
+
+        var after = taskRepository.findDTOById(id).get();
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, after));
+        return after;
+    }
+
+    /**
+     * A rank that puts a new task last in the column of {@code taskStatusId}. The column stays locked until
+     * the calling transaction ends, so concurrent writers cannot hand out the same rank.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String appendRank(Long taskStatusId) {
+        return appendRanks(taskStatusId, 1).get(0);
+    }
+
+    /**
+     * {@code count} ascending ranks that put new tasks last in the column of {@code taskStatusId}, evenly
+     * spaced after the current last one. The column is rebalanced first once its last rank has grown past
+     * {@link #MAX_RANK_LENGTH}, so appending never outgrows the rank column. Like {@link #appendRank}, it
+     * leaves the column locked until the calling transaction ends.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> appendRanks(Long taskStatusId, int count) {
+        lockColumn(taskStatusId);
+        var last = taskRepository.findMaxRank(taskStatusId);
+
+        if (last != null && (!RankKeys.isValid(last) || last.length() > MAX_RANK_LENGTH)) {
+            rewriteRanks(taskStatusId);
+            last = taskRepository.findMaxRank(taskStatusId);
+        }
+
+        return RankKeys.spread(last, count);
+    }
+
+    /**
+     * Moves the tasks, in the given order, to the end of the column of {@code taskStatusId} with one batched
+     * statement. Like {@link #appendRank}, it leaves the column locked until the calling transaction ends.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<Long> ids, Long taskStatusId, Instant updatedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        var ranks = appendRanks(taskStatusId, ids.size());
+        var now = Timestamp.from(updatedAt);
+        var rows = new ArrayList<Object[]>(ids.size());
+
+        for (var i = 0; i < ids.size(); i++) {
+            rows.add(new Object[] {ranks.get(i), taskStatusId, now, ids.get(i)});
+        }
+
+        jdbcTemplate.batchUpdate("update tasks set board_rank = ?, task_status_id = ?, updated_at = ? where id = ?",
+            rows);
+    }
+
+    @Scheduled(
+        initialDelayString = "${tasks.board.rebalance-initial-delay:PT1M}",
+        fixedDelayString = "${tasks.board.rebalance-delay:PT10M}"
+    )
+    public void rebalanceAll() {
+        for (var taskStatus : taskStatusRegistry.findAll()) {
+            transactionTemplate.executeWithoutResult(status -> rebalanceIfNeeded(taskStatus.id()));
+        }
+    }
+
+    /**
+     * Rewrites the ranks of a column as evenly spaced short keys, keeping the current order. Tasks without a
+     * rank go last.
+     */
+    @Transactional
+    public void rebalance(Long taskStatusId) {
+        lockColumn(taskStatusId);
+        rewriteRanks(taskStatusId);
+    }
+
+    private void rebalanceIfNeeded(Long taskStatusId) {
+        lockColumn(taskStatusId);
+
+        if (taskRepository.countNeedingRebalance(taskStatusId, MAX_RANK_LENGTH) > 0) {
+            rewriteRanks(taskStatusId);
+        }
+    }
+
+    /**
+     * Serializes rank changes within a column on the row of its status; moves, appends and rebalancing of
+     * the column all take this lock first.
+     */
+    private void lockColumn(Long taskStatusId) {
+        taskStatusRepository.lockById(taskStatusId)
+            .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + taskStatusId));
+    }
+
+    private void rewriteRanks(Long taskStatusId) {
+        var ids = taskRepository.findIdsInRankOrder(taskStatusId);
+        var ranks = RankKeys.spread(ids.size());
+        var now = Timestamp.from(Instant.now());
+        var rows = new ArrayList<Object[]>(ids.size());
+
+        for (var i = 0; i < ids.size(); i++) {
+            rows.add(new Object[] {ranks.get(i), now, ids.get(i)});
+        }
+
+        jdbcTemplate.batchUpdate("update tasks set board_rank = ?, updated_at = ? where id = ?", rows);
+    }
+
+    private String neighbourRank(Long neighbourId, Long taskStatusId) {
+        if (neighbourId == null) {
+            return null;
+        }
+
+        var neighbour = taskRepository.findDTOById(neighbourId)
+            .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + neighbourId));
+        var neighbourStatusId = taskStatusRegistry.findBySlug(neighbour.getStatus())
+            .map(TaskStatusRegistry.Entry::id)
+            .orElse(null);
+
+        if (!taskStatusId.equals(neighbourStatusId)) {
+            throw new InvalidMoveException("Task " + neighbourId + " is in another column");
+        }
+
+        return neighbour.getRank();
+    }
+}
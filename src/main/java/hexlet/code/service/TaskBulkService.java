@@ -0,0 +1,285 @@
+package hexlet.code.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import hexlet.code.component.TaskReferenceResolver;
+import hexlet.code.dto.TaskBulkResultDTO;
+import hexlet.code.dto.TaskBulkUpdateDTO;
+import hexlet.code.dto.TaskBulkUpdateResultDTO;
+import hexlet.code.dto.TaskCreateDTO;
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.exception.BatchTooLargeException;
+import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.specification.TaskSpecification;
+import jakarta.validation.Validator;
+
+@Service
+public class TaskBulkService {
+
+    public static final int MAX_ITEMS = 1_000;
+
+    private static final int UPDATE_CHUNK_SIZE = 1_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSpecification specBuilder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskReferenceResolver referenceResolver;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private TaskBoardService taskBoardService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates the valid items of {@code items} in one transaction and reports, per item and in request order,
+     * either the new id or why the item was skipped. References are resolved with one query per entity type
+     * and the inserts go out as JDBC batches.
+     */
+    @Transactional
+    public List<TaskBulkResultDTO> create(List<TaskCreateDTO> items) {
+        if (items.size() > MAX_ITEMS) {
+            throw new BatchTooLargeException("At most " + MAX_ITEMS + " tasks per request, got " + items.size());
+        }
+
+        var statuses = referenceResolver.findTaskStatuses(collect(items, TaskCreateDTO::getStatus));
+        var users = referenceResolver.findUsers(collect(items, TaskCreateDTO::getAssigneeId));
+        var labels = referenceResolver.findLabels(items.stream()
+            .filter(Objects::nonNull)
+            .map(TaskCreateDTO::getTaskLabelIds)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .collect(Collectors.toSet()));
+
+        var results = new ArrayList<TaskBulkResultDTO>(items.size());
+        var tasks = new ArrayList<Task>(items.size());
+
+        for (var position = 0; position < items.size(); position++) {
+            var item = items.get(position);
+            var result = new TaskBulkResultDTO();
+            result.setPosition(position);
+            result.setErrors(validate(item, statuses, users, labels));
+            results.add(result);
+
+            tasks.add(result.getErrors().isEmpty() ? taskMapper.map(item) : null);
+        }
+
+        Map<Long, Long> counts = tasks.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.groupingBy(task -> task.getTaskStatus().getId(), TreeMap::new,
+                Collectors.counting()));
+        Map<Long, Iterator<String>> ranks = new HashMap<>();
+        // Columns are locked in id order, so two batches touching the same columns cannot deadlock.
+        counts.forEach((taskStatusId, count) ->
+            ranks.put(taskStatusId, taskBoardService.appendRanks(taskStatusId, count.intValue()).iterator()));
+
+        for (var task : tasks) {
+            if (task != null) {
+                task.setRank(ranks.get(task.getTaskStatus().getId()).next());
+            }
+        }
+
+        taskRepository.saveAll(tasks.stream().filter(Objects::nonNull).toList());
+
+        for (var i = 0; i < tasks.size(); i++) {
+            var task = tasks.get(i);
+
+            if (task != null) {
+                results.get(i).setId(task.getId());
+                eventPublisher.publishEvent(TaskChangedEvent.created(taskMapper.map(task)));
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Applies the patch in {@code data} to the listed tasks, or to the tasks matching the filter, with
+     * set-based UPDATE and join table statements. Tasks are only read through the DTO projection, to publish
+     * the before and after state of each of them. Tasks moved to another status go to the end of its column.
+     */
+    @Transactional
+    public TaskBulkUpdateResultDTO update(TaskBulkUpdateDTO data) {
+        var taskStatus = data.getStatus() == null ? null : referenceResolver.getTaskStatus(data.getStatus());
+        var assigneeChanged = data.getAssigneeId() != null && data.getAssigneeId().isPresent();
+        var assignee = assigneeChanged ? assigneeReference(data.getAssigneeId().get()) : null;
+        var addLabelIds = existingLabelIds(data.getAddLabelIds());
+        var removeLabelIds = data.getRemoveLabelIds() == null ? List.<Long>of() : data.getRemoveLabelIds();
+
+        var affected = forEachChunk(data, chunk -> {
+            var before = findDTOs(chunk);
+
+            if (before.isEmpty()) {
+                return 0;
+            }
+
+            var existing = before.keySet();
+            var now = Instant.now();
+
+            if (taskStatus != null) {
+                var moved = existing.stream()
+                    .filter(id -> !taskStatus.getId().equals(before.get(id).getTaskStatusId()))
+                    .sorted()
+                    .toList();
+                taskBoardService.appendAll(moved, taskStatus.getId(), now);
+            }
+
+            if (assigneeChanged) {
+                taskRepository.updateAssignee(existing, assignee, now);
+            }
+
+            if (!addLabelIds.isEmpty()) {
+                taskRepository.addLabels(existing, addLabelIds);
+            }
+
+            if (!removeLabelIds.isEmpty()) {
+                taskRepository.removeLabels(existing, removeLabelIds);
+            }
+
+            taskRepository.touch(existing, now);
+
+            findDTOs(existing).forEach((id, after) ->
+                eventPublisher.publishEvent(TaskChangedEvent.updated(before.get(id), after)));
+            return existing.size();
+        });
+
+        var result = new TaskBulkUpdateResultDTO();
+        result.setAffected(affected);
+        return result;
+    }
+
+    /**
+     * Feeds the targeted ids to {@code action} in chunks and sums what it returns. Filter matches are read
+     * chunk by chunk in id order, so the whole match set is never held in memory.
+     */
+    private int forEachChunk(TaskBulkUpdateDTO data, ToIntFunction<List<Long>> action) {
+        var total = 0;
+
+        if (data.getIds() != null) {
+            var ids = data.getIds().stream().filter(Objects::nonNull).distinct().toList();
+
+            for (var from = 0; from < ids.size(); from += UPDATE_CHUNK_SIZE) {
+                total += action.applyAsInt(ids.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, ids.size())));
+            }
+
+            return total;
+        }
+
+        var filter = specBuilder.build(data.getFilter().normalized());
+        var chunk = taskRepository.findIds(filter, Sort.by("id"), UPDATE_CHUNK_SIZE);
+
+        while (!chunk.isEmpty()) {
+            total += action.applyAsInt(chunk);
+
+            var lastId = chunk.get(chunk.size() - 1);
+            chunk = taskRepository.findIds(filter.and(specBuilder.idAfter(lastId)), Sort.by("id"), UPDATE_CHUNK_SIZE);
+        }
+
+        return total;
+    }
+
+    private Map<Long, TaskDTO> findDTOs(Collection<Long> ids) {
+        return byKey(taskRepository.findDTOs(specBuilder.withIds(ids), Sort.by("id"), ids.size()), TaskDTO::getId);
+    }
+
+    private User assigneeReference(Long assigneeId) {
+        if (assigneeId == null) {
+            return null;
+        }
+
+        if (!userRepository.existsById(assigneeId)) {
+            throw new ResourceNotFoundException("Not Found: " + assigneeId);
+        }
+
+        return userRepository.getReferenceById(assigneeId);
+    }
+
+    private List<Long> existingLabelIds(List<Long> labelIds) {
+        if (labelIds == null || labelIds.isEmpty()) {
+            return List.of();
+        }
+
+        return referenceResolver.getLabels(labelIds).stream()
+            .map(Label::getId)
+            .distinct()
+            .toList();
+    }
+
+    private List<String> validate(TaskCreateDTO item, Map<String, TaskStatus> statuses, Map<Long, User> users,
+            Map<Long, Label> labels) {
+        if (item == null) {
+            return List.of("item: must not be null");
+        }
+
+        var errors = new ArrayList<String>();
+
+        validator.validate(item).forEach(violation ->
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+
+        if (item.getStatus() != null && !statuses.containsKey(item.getStatus())) {
+            errors.add("Not Found: status " + item.getStatus());
+        }
+
+        if (item.getAssigneeId() != null && !users.containsKey(item.getAssigneeId())) {
+            errors.add("Not Found: assignee " + item.getAssigneeId());
+        }
+
+        if (item.getTaskLabelIds() != null) {
+            item.getTaskLabelIds().stream()
+                .filter(id -> id == null || !labels.containsKey(id))
+                .forEach(id -> errors.add("Not Found: label " + id));
+        }
+
+        return errors;
+    }
+
+    private static <T> Collection<T> collect(List<TaskCreateDTO> items, Function<TaskCreateDTO, T> getter) {
+        return items.stream()
+            .filter(Objects::nonNull)
+            .map(getter)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    private static <K, V> Map<K, V> byKey(Collection<V> values, Function<V, K> key) {
+        return values.stream().collect(Collectors.toMap(key, Function.identity()));
+    }
+}
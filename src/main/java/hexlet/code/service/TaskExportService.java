@@ -0,0 +1,50 @@
+package hexlet.code.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.specification.TaskSpecification;
+
+@Service
+public class TaskExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final Sort EXPORT_ORDER = Sort.by("id");
+
+    @Autowired
+    private TaskSpecification specBuilder;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(TaskParamsDTO params, OutputStream out) {
+        var spec = specBuilder.build(params.normalized());
+
+        taskRepository.forEachChunk(spec, EXPORT_ORDER, CHUNK_SIZE, chunk -> {
+            try {
+                for (var task : chunk) {
+                    out.write(objectMapper.writeValueAsBytes(task));
+                    out.write('\n');
+                }
+
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
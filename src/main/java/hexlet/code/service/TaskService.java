@@ -1,63 +1,321 @@
 package hexlet.code.service;
 
-import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import hexlet.code.component.TaskPageProperties;
+import hexlet.code.component.TaskReferenceResolver;
+import hexlet.code.datasource.PrimaryPin;
 import hexlet.code.dto.TaskCreateDTO;
 import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskFacetsDTO;
+import hexlet.code.dto.TaskFieldChangeDTO;
+import hexlet.code.dto.TaskHistoryDTO;
+import hexlet.code.dto.TaskHistoryPageDTO;
+import hexlet.code.dto.TaskPageDTO;
 import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.dto.TaskSearchHitDTO;
+import hexlet.code.dto.TaskSearchPageDTO;
 import hexlet.code.dto.TaskUpdateDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.exception.IndexNotReadyException;
 import hexlet.code.exception.ResourceNotFoundException;
+import hexlet.code.history.TaskHistoryRecord;
+import hexlet.code.history.TaskHistoryStore;
+import hexlet.code.index.IndexKeys;
+import hexlet.code.index.TaskFilterIndex;
+import hexlet.code.index.TaskSearchIndex;
+import hexlet.code.index.TaskTitleIndex;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Task;
+import hexlet.code.model.Tombstone;
 import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TombstoneRepository;
+import hexlet.code.repository.UserRepository;
 import hexlet.code.specification.TaskSpecification;
+import hexlet.code.util.TaskCursor;
 
 @Service
 public class TaskService {
 
+    public static final String COUNTS_CACHE = "taskCounts";
+
+    private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
+
     @Autowired
     private TaskSpecification specBuilder;
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskBoardService taskBoardService;
+
     @Autowired
     private TaskMapper taskMapper;
 
-    public List<TaskDTO> getAll(TaskParamsDTO params) {
-        var spec = specBuilder.build(params);
-        var tasks = taskRepository.findAll(spec);
+    @Autowired
+    private TaskPageProperties pageProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskSearchIndex searchIndex;
+
+    @Autowired
+    private TaskTitleIndex titleIndex;
+
+    @Autowired
+    private TaskFilterIndex filterIndex;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TaskHistoryStore historyStore;
 
-        return tasks.stream()
-            .map(taskMapper::map)
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskReferenceResolver referenceResolver;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO getAll(TaskParamsDTO params, String cursor, Integer limit) {
+        var size = pageSize(limit);
+        var after = cursor == null ? null : TaskCursor.decode(cursor);
+        var spec = specBuilder.build(params.normalized()).and(specBuilder.after(after));
+        var tasks = taskRepository.findDTOs(spec, KEYSET_ORDER, size + 1);
+
+        var page = new TaskPageDTO();
+        page.setData(tasks.stream()
+            .limit(size)
+            .toList());
+
+        if (tasks.size() > size) {
+            var last = page.getData().get(size - 1);
+            page.setNext(TaskCursor.of(last).encode());
+        }
+
+        return page;
+    }
+
+    /**
+     * Counts are shared by all clients through the cache, so they are taken from the primary: a value read
+     * from a lagging replica would outlive the lag and hide a client's own writes from it.
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = COUNTS_CACHE, key = "#params.normalized()")
+    public long count(TaskParamsDTO params) {
+        var spec = specBuilder.build(params.normalized());
+        return PrimaryPin.onPrimary(() -> taskRepository.count(spec));
+    }
+
+    @Transactional(readOnly = true)
+    public TaskSearchPageDTO search(String text, Integer page, Integer limit) {
+        var size = pageSize(limit);
+        var offset = pageOffset(page, size);
+        var result = searchIndex.search(text, offset, size);
+
+        var ids = result.hits().stream()
+            .map(TaskSearchIndex.Hit::id)
             .toList();
+        Map<Long, TaskDTO> tasks = ids.isEmpty()
+            ? Map.of()
+            : taskRepository.findDTOs(specBuilder.withIds(ids), Sort.unsorted(), ids.size()).stream()
+                .collect(Collectors.toMap(TaskDTO::getId, Function.identity()));
+
+        var searchPage = new TaskSearchPageDTO();
+        searchPage.setTotal(result.total());
+        searchPage.setData(result.hits().stream()
+            .filter(hit -> tasks.containsKey(hit.id()))
+            .map(hit -> {
+                var dto = new TaskSearchHitDTO();
+                dto.setId(hit.id());
+                dto.setScore(hit.score());
+                dto.setTask(tasks.get(hit.id()));
+                return dto;
+            })
+            .toList());
+
+        return searchPage;
     }
 
+    @Transactional(readOnly = true)
+    public TaskFacetsDTO facets(TaskParamsDTO params) {
+        var normalized = params.normalized();
+        RoaringBitmap within = null;
+
+        if (normalized.getTitleCont() != null) {
+            within = titleIndex.match(normalized.getTitleCont()).orElseGet(() -> {
+                var titleOnly = new TaskParamsDTO();
+                titleOnly.setTitleCont(normalized.getTitleCont());
+
+                var ids = taskRepository.findIds(specBuilder.build(titleOnly));
+                return RoaringBitmap.bitmapOf(ids.stream()
+                    .filter(IndexKeys::fits)
+                    .mapToInt(IndexKeys::toKey)
+                    .toArray());
+            });
+        }
+
+        return filterIndex.facets(normalized, within)
+            .orElseThrow(() -> new IndexNotReadyException("Task index is loading, try again later"));
+    }
+
+    @Transactional(readOnly = true)
+    public TaskHistoryPageDTO getHistory(Long id, Integer page, Integer limit) {
+        var total = historyStore.count(id);
+
+        if (total == 0 && !taskRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Not Found: " + id);
+        }
+
+        var size = pageSize(limit);
+        var offset = pageOffset(page, size);
+
+        var historyPage = new TaskHistoryPageDTO();
+        historyPage.setTotal(total);
+        historyPage.setData(historyStore.find(id, offset, size).stream()
+            .map(TaskService::toHistoryDTO)
+            .toList());
+
+        return historyPage;
+    }
+
+    @Transactional(readOnly = true)
     public TaskDTO findById(Long id) {
-        var task = taskRepository.findById(id)
+        return taskRepository.findDTOById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
-
-        return taskMapper.map(task);
     }
 
+    @Transactional
     public TaskDTO create(TaskCreateDTO data) {
         var task = taskMapper.map(data);
-        taskRepository.save(task);
-        return taskMapper.map(task);
+        task.setRank(taskBoardService.appendRank(task.getTaskStatus().getId()));
+        saveAndFlush(task, data.getAssigneeId());
+
+        var created = taskMapper.map(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(created));
+        return created;
     }
 
+    @Transactional
     public TaskDTO update(TaskUpdateDTO data, Long id) {
-        var task = taskRepository.findById(id)
+        var task = taskRepository.findWithLabelsById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
 
+        var before = taskMapper.map(task);
+        var rank = rankInNewColumn(data, task);
         taskMapper.update(data, task);
-        taskRepository.save(task);
-        return taskMapper.map(task);
+
+        if (rank != null) {
+            task.setRank(rank);
+        }
+
+        saveAndFlush(task, task.getAssignee() == null ? null : task.getAssignee().getId());
+
+        var updated = taskMapper.map(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, updated));
+        return updated;
     }
 
+    @Transactional
     public void delete(Long id) {
-        taskRepository.deleteById(id);
+        taskRepository.findWithLabelsById(id).ifPresent(task -> {
+            var deleted = taskMapper.map(task);
+            taskRepository.delete(task);
+            tombstoneRepository.save(new Tombstone(Tombstone.TASK, id));
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(deleted));
+        });
+    }
+
+    /**
+     * A task moved to another status goes last in its column. The rank is taken before the patch is applied:
+     * reading the column would flush the patched task, and a bad assignee must only surface in saveAndFlush.
+     */
+    private String rankInNewColumn(TaskUpdateDTO data, Task task) {
+        if (data.getStatus() == null || !data.getStatus().isPresent()) {
+            return null;
+        }
+
+        var taskStatusId = referenceResolver.getTaskStatus(data.getStatus().get()).getId();
+
+        return taskStatusId.equals(task.getTaskStatus().getId()) ? null : taskBoardService.appendRank(taskStatusId);
+    }
+
+    /**
+     * The assignee is attached as an unchecked reference, so an unknown id only shows up as a foreign key
+     * violation on flush. The failed flush leaves the persistence context unusable, so the assignee is looked
+     * up in a transaction of its own; any other violation is rethrown.
+     */
+    private void saveAndFlush(Task task, Long assigneeId) {
+        try {
+            taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            if (assigneeId != null && !userExists(assigneeId)) {
+                throw new ResourceNotFoundException("Not Found: " + assigneeId);
+            }
+
+            throw e;
+        }
+    }
+
+    private boolean userExists(Long id) {
+        var template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return Boolean.TRUE.equals(template.execute(status -> userRepository.existsById(id)));
+    }
+
+    private static TaskHistoryDTO toHistoryDTO(TaskHistoryRecord record) {
+        var dto = new TaskHistoryDTO();
+        dto.setChangedAt(record.changedAt());
+        dto.setAction(record.action().name().toLowerCase(Locale.ROOT));
+        dto.setAuthor(record.author());
+        dto.setChanges(record.changes().stream()
+            .map(change -> {
+                var changeDTO = new TaskFieldChangeDTO();
+                changeDTO.setField(change.field());
+                changeDTO.setFrom(change.from());
+                changeDTO.setTo(change.to());
+                return changeDTO;
+            })
+            .toList());
+        return dto;
+    }
+
+    private int pageSize(Integer limit) {
+        if (limit == null) {
+            return pageProperties.getDefaultSize();
+        }
+
+        return Math.max(1, Math.min(limit, pageProperties.getMaxSize()));
+    }
+
+    /**
+     * Offset of a zero-based page, clamped so that offset plus size still fits an int: pages that far out are
+     * simply empty.
+     */
+    private static int pageOffset(Integer page, int size) {
+        var offset = Math.multiplyExact((long) Math.max(0, page == null ? 0 : page), size);
+        return (int) Math.min(offset, Integer.MAX_VALUE - size);
     }
 }
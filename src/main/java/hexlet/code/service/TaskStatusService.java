@@ -3,15 +3,20 @@ package hexlet.code.service;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import hexlet.code.dto.TaskStatusCreateDTO;
 import hexlet.code.dto.TaskStatusDTO;
 import hexlet.code.dto.TaskStatusUpdateDTO;
+import hexlet.code.event.TaskStatusChangedEvent;
 import hexlet.code.exception.DuplicateSlugException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskStatusMapper;
+import hexlet.code.model.Tombstone;
 import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.TombstoneRepository;
 
 @Service
 public class TaskStatusService {
@@ -22,6 +27,13 @@ public class TaskStatusService {
     @Autowired
     private TaskStatusMapper taskStatusMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TombstoneRepository tombstoneRepository;
+
+    @Transactional(readOnly = true)
     public List<TaskStatusDTO> getAll() {
         var taskStatuses = taskStatusRepository.findAll();
 
@@ -30,6 +42,7 @@ public class TaskStatusService {
             .toList();
     }
 
+    @Transactional(readOnly = true)
     public TaskStatusDTO findById(Long id) {
         var taskStatus = taskStatusRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
@@ -37,6 +50,7 @@ public class TaskStatusService {
         return taskStatusMapper.map(taskStatus);
     }
 
+    @Transactional
     public TaskStatusDTO create(TaskStatusCreateDTO data) {
         var slug = data.getSlug();
 
@@ -46,19 +60,27 @@ public class TaskStatusService {
 
         var taskStatus = taskStatusMapper.map(data);
         taskStatusRepository.save(taskStatus);
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(taskStatus.getId()));
         return taskStatusMapper.map(taskStatus);
     }
 
+    @Transactional
     public TaskStatusDTO update(TaskStatusUpdateDTO data, Long id) {
         var taskStatus = taskStatusRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
 
         taskStatusMapper.update(data, taskStatus);
         taskStatusRepository.save(taskStatus);
+        eventPublisher.publishEvent(new TaskStatusChangedEvent(id));
         return taskStatusMapper.map(taskStatus);
     }
 
+    @Transactional
     public void delete(Long id) {
-        taskStatusRepository.deleteById(id);
+        taskStatusRepository.findById(id).ifPresent(taskStatus -> {
+            taskStatusRepository.delete(taskStatus);
+            tombstoneRepository.save(new Tombstone(Tombstone.TASK_STATUS, id));
+            eventPublisher.publishEvent(new TaskStatusChangedEvent(id));
+        });
     }
 }
@@ -3,12 +3,15 @@ package hexlet.code.service;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import hexlet.code.dto.UserCreateDTO;
 import hexlet.code.dto.UserDTO;
 import hexlet.code.dto.UserUpdateDTO;
+import hexlet.code.event.UserCredentialsChangedEvent;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.UserMapper;
 import hexlet.code.repository.UserRepository;
@@ -25,6 +28,10 @@ public class UserService {
     @Autowired
     private PasswordEncoder encoder;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
     public List<UserDTO> getAll() {
         var users = userRepository.findAll();
 
@@ -33,6 +40,7 @@ public class UserService {
             .toList();
     }
 
+    @Transactional(readOnly = true)
     public UserDTO findById(Long id) {
         var user = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
@@ -40,6 +48,7 @@ public class UserService {
         return userMapper.map(user);
     }
 
+    @Transactional
     public UserDTO create(UserCreateDTO data) {
         var user = userMapper.map(data);
         var passwordDigest = encoder.encode(data.getPassword());
@@ -48,22 +57,33 @@ public class UserService {
         return userMapper.map(user);
     }
 
+    @Transactional
     public UserDTO update(UserUpdateDTO data, Long id) {
         var user = userRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Not Found: " + id));
 
+        var email = user.getEmail();
+        var passwordDigest = user.getPasswordDigest();
         userMapper.update(data, user);
 
         if (data.getPassword() != null) {
-            var passwordDigest = encoder.encode(data.getPassword().get());
-            user.setPasswordDigest(passwordDigest);
+            user.setPasswordDigest(encoder.encode(data.getPassword().get()));
         }
 
         userRepository.save(user);
+
+        if (!email.equals(user.getEmail()) || !passwordDigest.equals(user.getPasswordDigest())) {
+            eventPublisher.publishEvent(new UserCredentialsChangedEvent(email));
+        }
+
         return userMapper.map(user);
     }
 
+    @Transactional
     public void delete(Long id) {
-        userRepository.deleteById(id);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            eventPublisher.publishEvent(new UserCredentialsChangedEvent(user.getEmail()));
+        });
     }
 }
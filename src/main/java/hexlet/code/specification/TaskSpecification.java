@@ -1,24 +1,134 @@
 package hexlet.code.specification;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import hexlet.code.component.TaskStatusRegistry;
 import hexlet.code.dto.TaskParamsDTO;
+import hexlet.code.index.IndexKeys;
+import hexlet.code.index.TaskFilterIndex;
+import hexlet.code.index.TaskTitleIndex;
 import hexlet.code.model.Task;
+import hexlet.code.util.TaskCursor;
 
 @Component
 public class TaskSpecification {
+
+    public static final int MAX_CANDIDATES = 10_000;
+
+    @Autowired
+    private TaskTitleIndex titleIndex;
+
+    @Autowired
+    private TaskFilterIndex filterIndex;
+
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
+    /**
+     * Filters answered by the in-process indexes narrow the query to a primary key lookup; candidate sets too
+     * broad to pass as an id list fall back to a plain scan. The predicates are checked in SQL either way, since
+     * the indexes only see changes committed through this instance.
+     */
     public Specification<Task> build(TaskParamsDTO params) {
-        return withTitleCont(params.getTitleCont())
-            .and(withAssigneeId(params.getAssigneeId()))
-            .and(withStatus(params.getStatus()))
-            .and(withLabelId(params.getLabelId()));
+        var titleMatches = params.getTitleCont() == null
+            ? Optional.<RoaringBitmap>empty()
+            : titleIndex.match(params.getTitleCont());
+        var filterMatches = filterIndex.match(params);
+        var candidates = Stream.of(titleMatches, filterMatches)
+            .flatMap(Optional::stream)
+            .reduce((left, right) -> RoaringBitmap.and(left, right));
+
+        var predicates = withTitleLike(params.getTitleCont()).and(withFilters(params));
+
+        if (candidates.isEmpty() || candidates.get().getCardinality() > MAX_CANDIDATES) {
+            return predicates;
+        }
+
+        return withIds(candidates.get()).and(predicates);
     }
 
-    private Specification<Task> withTitleCont(String titleCont) {
-        return (root, query, cb) -> titleCont == null
+    public Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> cursor == null
             ? cb.conjunction()
-            : cb.like(root.get("name"), titleCont);
+            : cb.or(
+                cb.greaterThan(root.<LocalDate>get("createdAt"), cursor.createdAt()),
+                cb.and(
+                    cb.equal(root.get("createdAt"), cursor.createdAt()),
+                    cb.greaterThan(root.<Long>get("id"), cursor.id())
+                )
+            );
+    }
+
+    /**
+     * Tasks after the keyset position {@code (since, afterId)} in {@code (updatedAt, id)} order; without
+     * {@code afterId} everything updated strictly after {@code since}.
+     */
+    public Specification<Task> updatedAfter(Instant since, Long afterId) {
+        return (root, query, cb) -> {
+            if (since == null) {
+                return cb.conjunction();
+            }
+
+            var later = cb.greaterThan(root.<Instant>get("updatedAt"), since);
+
+            return afterId == null
+                ? later
+                : cb.or(
+                    later,
+                    cb.and(
+                        cb.equal(root.get("updatedAt"), since),
+                        cb.greaterThan(root.<Long>get("id"), afterId)
+                    )
+                );
+        };
+    }
+
+    public Specification<Task> idAfter(Long id) {
+        return (root, query, cb) -> id == null
+            ? cb.conjunction()
+            : cb.greaterThan(root.<Long>get("id"), id);
+    }
+
+    public Specification<Task> withIds(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty()
+            ? cb.disjunction()
+            : root.get("id").in(ids);
+    }
+
+    private Specification<Task> withIds(RoaringBitmap ids) {
+        var list = new ArrayList<Long>(ids.getCardinality());
+        ids.forEach((int key) -> list.add(IndexKeys.toId(key)));
+        return withIds(list);
+    }
+
+    private Specification<Task> withFilters(TaskParamsDTO params) {
+        return withAssigneeId(params.getAssigneeId())
+            .and(withStatus(params.getStatus()))
+            .and(withLabelIdsAll(params.getLabelId() == null ? null : List.of(params.getLabelId())))
+            .and(withLabelIdsAll(params.getLabelIdsAll()))
+            .and(withLabelIdsAny(params.getLabelIdsAny()));
+    }
+
+    private Specification<Task> withTitleLike(String titleCont) {
+        if (titleCont == null) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+
+        var pattern = "%" + escapeLike(titleCont.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, '\\');
     }
 
     private Specification<Task> withAssigneeId(Long assigneeId) {
@@ -28,14 +138,47 @@ public class TaskSpecification {
     }
 
     private Specification<Task> withStatus(String status) {
-        return (root, query, cb) -> status == null
-            ? cb.conjunction()
-            : cb.equal(root.get("taskStatus").get("slug"), status);
+        if (status == null) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+
+        var taskStatusId = taskStatusRegistry.findBySlug(status).map(TaskStatusRegistry.Entry::id);
+        return (root, query, cb) -> taskStatusId.isEmpty()
+            ? cb.disjunction()
+            : cb.equal(root.get("taskStatus").get("id"), taskStatusId.get());
     }
 
-    private Specification<Task> withLabelId(Long labelId) {
-        return (root, query, cb) -> labelId == null
-            ? cb.conjunction()
-            : cb.equal(root.get("labels").get("id"), labelId);
+    private Specification<Task> withLabelIdsAll(List<Long> labelIds) {
+        if (labelIds == null) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+
+        return Specification.allOf(labelIds.stream()
+            .map(labelId -> withLabelIdsAny(List.of(labelId)))
+            .toList());
+    }
+
+    private Specification<Task> withLabelIdsAny(List<Long> labelIds) {
+        return (root, query, cb) -> {
+            if (labelIds == null) {
+                return cb.conjunction();
+            }
+
+            var subquery = query.subquery(Long.class);
+            var task = subquery.from(Task.class);
+            subquery.select(task.get("id"))
+                .where(
+                    cb.equal(task.get("id"), root.get("id")),
+                    task.join("labels").get("id").in(labelIds)
+                );
+            return cb.exists(subquery);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
     }
 }
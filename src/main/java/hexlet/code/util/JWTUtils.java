@@ -12,10 +12,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class JWTUtils {
 
+    public static final String USER_ID_CLAIM = "uid";
+
     @Autowired
     private JwtEncoder encoder;
 
-    public String generateToken(String username) {
+    public String generateToken(String username, Long userId) {
         var now = Instant.now();
 
         var claims = JwtClaimsSet.builder()
@@ -23,6 +25,7 @@ public class JWTUtils {
                 .issuedAt(now)
                 .expiresAt(now.plus(1, ChronoUnit.HOURS))
                 .subject(username)
+                .claim(USER_ID_CLAIM, userId)
                 .build();
 
         return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
@@ -0,0 +1,119 @@
+package hexlet.code.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+/**
+ * Signing keys for the configured JWS algorithm: RSA ({@code RS*}, {@code PS*}) or EC ({@code ES*}) key pairs
+ * read from PKCS#8 / X.509 PEM files, and a decoder that only accepts tokens signed with that key.
+ */
+public final class JwtKeys {
+
+    private JwtKeys() {
+    }
+
+    public static JWK load(SignatureAlgorithm algorithm, Resource publicKey, Resource privateKey)
+            throws IOException {
+        try {
+            var keyFactory = KeyFactory.getInstance(family(algorithm));
+            var keyPair = new KeyPair(
+                keyFactory.generatePublic(new X509EncodedKeySpec(pem(publicKey))),
+                keyFactory.generatePrivate(new PKCS8EncodedKeySpec(pem(privateKey)))
+            );
+            return of(algorithm, keyPair);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid " + algorithm.getName() + " key pair", e);
+        }
+    }
+
+    public static JWK of(SignatureAlgorithm algorithm, KeyPair keyPair) {
+        var jwsAlgorithm = JWSAlgorithm.parse(algorithm.getName());
+
+        try {
+            if (family(algorithm).equals("EC")) {
+                var publicKey = (ECPublicKey) keyPair.getPublic();
+                return new ECKey.Builder(Curve.forECParameterSpec(publicKey.getParams()), publicKey)
+                    .privateKey((ECPrivateKey) keyPair.getPrivate())
+                    .algorithm(jwsAlgorithm)
+                    .keyIDFromThumbprint()
+                    .build();
+            }
+
+            return new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .privateKey((RSAPrivateKey) keyPair.getPrivate())
+                .algorithm(jwsAlgorithm)
+                .keyIDFromThumbprint()
+                .build();
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("Invalid " + algorithm.getName() + " key pair", e);
+        }
+    }
+
+    public static JwtDecoder decoder(JWK jwk) {
+        var keySelector = new JWSVerificationKeySelector<SecurityContext>(
+            JWSAlgorithm.parse(jwk.getAlgorithm().getName()),
+            new ImmutableJWKSet<>(new JWKSet(jwk.toPublicJWK()))
+        );
+
+        var processor = new DefaultJWTProcessor<SecurityContext>();
+        processor.setJWSKeySelector(keySelector);
+        // Claims are checked by the validators NimbusJwtDecoder installs.
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        return new NimbusJwtDecoder(processor);
+    }
+
+    private static String family(SignatureAlgorithm algorithm) {
+        var name = algorithm.getName();
+
+        if (name.startsWith("ES")) {
+            return "EC";
+        }
+
+        if (name.startsWith("RS") || name.startsWith("PS")) {
+            return "RSA";
+        }
+
+        throw new IllegalArgumentException("Unsupported JWT signing algorithm: " + name);
+    }
+
+    private static byte[] pem(Resource resource) throws IOException {
+        var body = new StringBuilder();
+
+        for (var line : resource.getContentAsString(StandardCharsets.US_ASCII).split("\\R")) {
+            if (!line.startsWith("-----")) {
+                body.append(line.strip());
+            }
+        }
+
+        return Base64.getDecoder().decode(body.toString());
+    }
+}
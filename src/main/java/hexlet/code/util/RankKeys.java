@@ -0,0 +1,134 @@
+package hexlet.code.util;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic rank keys for manual ordering. A key is read as a base-36 fraction ({@code 0-9a-z}) and never
+ * ends with the zero digit, so there is always room for a key between two others and moving a card only
+ * rewrites the moved card. Digits and lowercase letters sort the same in the C collation and in the usual
+ * locale collations, so the database orders keys exactly like {@link String#compareTo}.
+ */
+public final class RankKeys {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final BigInteger BIG_BASE = BigInteger.valueOf(BASE);
+
+    private RankKeys() {
+    }
+
+    /**
+     * A key strictly between {@code lo} and {@code hi}; {@code null} stands for the start and the end of
+     * the column respectively.
+     */
+    public static String between(String lo, String hi) {
+        if (lo != null && hi != null && lo.compareTo(hi) >= 0) {
+            throw new IllegalArgumentException("Rank keys out of order: " + lo + " >= " + hi);
+        }
+
+        var low = lo == null ? "" : lo;
+        var high = hi;
+        var key = new StringBuilder();
+
+        while (true) {
+            var i = key.length();
+            var l = i < low.length() ? digit(low.charAt(i)) : 0;
+            var h = high == null || i >= high.length() ? BASE : digit(high.charAt(i));
+            var mid = (l + h) / 2;
+
+            if (l != h && mid > l) {
+                return key.append(DIGITS.charAt(mid)).toString();
+            }
+
+            if (l != h) {
+                high = null;
+            }
+
+            key.append(DIGITS.charAt(l));
+        }
+    }
+
+    public static boolean isValid(String key) {
+        return !key.isEmpty()
+            && key.chars().allMatch(c -> DIGITS.indexOf(c) >= 0)
+            && key.charAt(key.length() - 1) != DIGITS.charAt(0);
+    }
+
+    /**
+     * {@code count} evenly spaced keys of the shortest width that fits them, in ascending order.
+     */
+    public static List<String> spread(int count) {
+        return spread(null, count);
+    }
+
+    /**
+     * {@code count} evenly spaced keys after {@code lo}, in ascending order; {@code null} stands for the start
+     * of the column. The keys share one width, the shortest that fits them after {@code lo} plus a digit of
+     * room for later inserts, so appending many keys at once grows them by a few digits, not one per key.
+     */
+    public static List<String> spread(String lo, int count) {
+        var low = lo == null ? "" : lo;
+        var width = Math.max(1, low.length());
+        var capacity = BIG_BASE.pow(width);
+        var start = value(low, width);
+
+        while (capacity.subtract(start).compareTo(BigInteger.valueOf(count)) <= 0) {
+            width++;
+            capacity = capacity.multiply(BIG_BASE);
+            start = start.multiply(BIG_BASE);
+        }
+
+        width++;
+        capacity = capacity.multiply(BIG_BASE);
+        start = start.multiply(BIG_BASE);
+
+        var step = capacity.subtract(start).divide(BigInteger.valueOf(count + 1L));
+        var keys = new ArrayList<String>(count);
+
+        for (var i = 1; i <= count; i++) {
+            keys.add(encode(start.add(step.multiply(BigInteger.valueOf(i))), width));
+        }
+
+        return keys;
+    }
+
+    private static BigInteger value(String key, int width) {
+        var value = BigInteger.ZERO;
+
+        for (var i = 0; i < width; i++) {
+            value = value.multiply(BIG_BASE).add(BigInteger.valueOf(i < key.length() ? digit(key.charAt(i)) : 0));
+        }
+
+        return value;
+    }
+
+    private static String encode(BigInteger value, int width) {
+        var digits = value.toString(BASE);
+        var chars = new char[width];
+
+        for (var i = 0; i < width; i++) {
+            var offset = i - (width - digits.length());
+            chars[i] = offset < 0 ? DIGITS.charAt(0) : digits.charAt(offset);
+        }
+
+        var length = width;
+
+        while (chars[length - 1] == DIGITS.charAt(0)) {
+            length--;
+        }
+
+        return new String(chars, 0, length);
+    }
+
+    private static int digit(char c) {
+        var digit = DIGITS.indexOf(c);
+
+        if (digit < 0) {
+            throw new IllegalArgumentException("Not a rank key digit: " + c);
+        }
+
+        return digit;
+    }
+}
@@ -0,0 +1,40 @@
+package hexlet.code.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import hexlet.code.exception.InvalidSyncTokenException;
+
+/**
+ * Opaque delta sync position: changes made after {@code since} have not been seen by the client yet. A
+ * continuation token of a paged response also carries {@code afterId}, the last task returned at
+ * {@code since}, which makes it a keyset position over {@code (updatedAt, id)}. {@code issuedAt} is only
+ * compared against the tombstone retention.
+ */
+public record SyncToken(Instant since, Long afterId, Instant issuedAt) {
+
+    private static final String SEPARATOR = "~";
+
+    public static SyncToken decode(String value) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            var parts = raw.split(SEPARATOR);
+
+            if (parts.length < 2 || parts.length > 3) {
+                throw new InvalidSyncTokenException("Invalid Sync Token: " + value);
+            }
+
+            var afterId = parts.length == 3 ? Long.valueOf(parts[2]) : null;
+            return new SyncToken(Instant.parse(parts[0]), afterId, Instant.parse(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSyncTokenException("Invalid Sync Token: " + value);
+        }
+    }
+
+    public String encode() {
+        var raw = since + SEPARATOR + issuedAt + (afterId == null ? "" : SEPARATOR + afterId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,41 @@
+package hexlet.code.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.exception.InvalidCursorException;
+
+/**
+ * Opaque keyset position over {@code (createdAt, id)}, the sort order of the task list.
+ */
+public record TaskCursor(LocalDate createdAt, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static TaskCursor of(TaskDTO task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor decode(String value) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            var parts = raw.split(SEPARATOR);
+
+            if (parts.length != 2) {
+                throw new InvalidCursorException("Invalid Cursor: " + value);
+            }
+
+            return new TaskCursor(LocalDate.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid Cursor: " + value);
+        }
+    }
+
+    public String encode() {
+        var raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package hexlet.code.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import hexlet.code.event.UserCredentialsChangedEvent;
+
+public class CachingAuthenticationProviderTest {
+
+    private static final String USERNAME = "john@example.com";
+    private static final String PASSWORD = "secret";
+
+    private AtomicInteger calls;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    public void setUp() {
+        calls = new AtomicInteger();
+
+        AuthenticationProvider delegate = new AuthenticationProvider() {
+            @Override
+            public Authentication authenticate(Authentication authentication) {
+                calls.incrementAndGet();
+                if (!PASSWORD.equals(authentication.getCredentials())) {
+                    throw new BadCredentialsException("Bad credentials");
+                }
+                return UsernamePasswordAuthenticationToken.authenticated(authentication.getName(), null, List.of());
+            }
+
+            @Override
+            public boolean supports(Class<?> authentication) {
+                return true;
+            }
+        };
+
+        provider = new CachingAuthenticationProvider(delegate, new CredentialsCacheProperties());
+    }
+
+    @Test
+    public void testRepeatedCredentialsAreCached() {
+        var first = provider.authenticate(token(PASSWORD));
+        var second = provider.authenticate(token(PASSWORD));
+
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getName()).isEqualTo(first.getName());
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFailuresAreNotCached() {
+        provider.authenticate(token(PASSWORD));
+
+        assertThatThrownBy(() -> provider.authenticate(token("wrong"))).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> provider.authenticate(token("wrong"))).isInstanceOf(BadCredentialsException.class);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testCredentialsChangeInvalidates() {
+        provider.authenticate(token(PASSWORD));
+        provider.on(new UserCredentialsChangedEvent(USERNAME));
+        provider.authenticate(token(PASSWORD));
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private static Authentication token(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(USERNAME, password);
+    }
+}
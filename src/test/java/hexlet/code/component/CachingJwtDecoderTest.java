@@ -0,0 +1,111 @@
+package hexlet.code.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T10:00:00Z");
+
+    private MutableClock clock;
+    private AtomicInteger calls;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(NOW);
+        calls = new AtomicInteger();
+
+        decoder = new CachingJwtDecoder(token -> {
+            calls.incrementAndGet();
+            if (token.startsWith("bad")) {
+                throw new BadJwtException("Invalid signature");
+            }
+            var expiresAt = token.startsWith("eternal") ? null : NOW.plus(Duration.ofHours(1));
+            return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("john@example.com")
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .build();
+        }, 100, clock);
+    }
+
+    @Test
+    public void testRepeatedTokenIsCached() {
+        var first = decoder.decode("token");
+        var second = decoder.decode("token");
+
+        assertThat(second).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(decoder.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidTokenIsNotCached() {
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testTokenWithoutExpiryIsNotCached() {
+        decoder.decode("eternal");
+        decoder.decode("eternal");
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEntryExpiresWithToken() {
+        decoder.decode("token");
+        clock.advance(Duration.ofMinutes(59));
+        decoder.decode("token");
+        assertThat(calls.get()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(2));
+        decoder.decode("token");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
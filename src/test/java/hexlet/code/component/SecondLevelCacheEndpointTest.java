@@ -0,0 +1,74 @@
+package hexlet.code.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.ModelGenerator;
+
+/**
+ * Not transactional: every repository call runs in a session of its own, so a repeated lookup can only be
+ * answered from the second-level cache. The entities are committed and deleted again afterwards.
+ */
+@SpringBootTest
+public class SecondLevelCacheEndpointTest {
+
+    @Autowired
+    private SecondLevelCacheEndpoint endpoint;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    private TaskStatus taskStatus;
+    private User user;
+    private Label label;
+
+    @BeforeEach
+    public void setUp() {
+        taskStatus = taskStatusRepository.save(Instancio.of(modelGenerator.getTaskStatusModel()).create());
+        user = userRepository.save(Instancio.of(modelGenerator.getUserModel()).create());
+        label = labelRepository.save(Instancio.of(modelGenerator.getLabelModel()).create());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskStatusRepository.deleteById(taskStatus.getId());
+        userRepository.deleteById(user.getId());
+        labelRepository.deleteById(label.getId());
+    }
+
+    @Test
+    public void testRegions() {
+        taskStatusRepository.findById(taskStatus.getId());
+        userRepository.findById(user.getId());
+        labelRepository.findById(label.getId());
+
+        var hitsBefore = endpoint.regions().get("taskStatuses").hits();
+        assertThat(taskStatusRepository.findById(taskStatus.getId())).isPresent();
+
+        var regions = endpoint.regions();
+        assertThat(regions).containsKeys("users", "labels", "taskStatuses");
+        assertThat(regions.get("taskStatuses").hits()).isGreaterThan(hitsBefore);
+        assertThat(regions.get("taskStatuses").hitRatio()).isPositive();
+    }
+}
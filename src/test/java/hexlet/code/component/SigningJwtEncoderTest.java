@@ -0,0 +1,62 @@
+package hexlet.code.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import hexlet.code.util.JwtKeys;
+
+public class SigningJwtEncoderTest {
+
+    @ParameterizedTest
+    @EnumSource(value = SignatureAlgorithm.class, names = {"RS256", "ES256"})
+    public void testRoundTrip(SignatureAlgorithm algorithm) throws NoSuchAlgorithmException {
+        var jwk = JwtKeys.of(algorithm, keyPair(algorithm));
+        var encoder = new SigningJwtEncoder(jwk);
+
+        var token = encoder.encode(JwtEncoderParameters.from(claims())).getTokenValue();
+        var jwt = JwtKeys.decoder(jwk).decode(token);
+
+        assertThat(jwt.getSubject()).isEqualTo("john@example.com");
+        assertThat(jwt.getHeaders()).containsEntry("alg", algorithm.getName()).containsEntry("kid", jwk.getKeyID());
+    }
+
+    @Test
+    public void testForeignKeyIsRejected() throws NoSuchAlgorithmException {
+        var signingKey = JwtKeys.of(SignatureAlgorithm.ES256, keyPair(SignatureAlgorithm.ES256));
+        var otherKey = JwtKeys.of(SignatureAlgorithm.ES256, keyPair(SignatureAlgorithm.ES256));
+
+        var token = new SigningJwtEncoder(signingKey).encode(JwtEncoderParameters.from(claims())).getTokenValue();
+
+        assertThatThrownBy(() -> JwtKeys.decoder(otherKey).decode(token)).isInstanceOf(BadJwtException.class);
+    }
+
+    private static JwtClaimsSet claims() {
+        var now = Instant.now();
+        return JwtClaimsSet.builder()
+            .issuer("self")
+            .issuedAt(now)
+            .expiresAt(now.plus(1, ChronoUnit.HOURS))
+            .subject("john@example.com")
+            .build();
+    }
+
+    private static KeyPair keyPair(SignatureAlgorithm algorithm) throws NoSuchAlgorithmException {
+        var generator = KeyPairGenerator.getInstance(algorithm == SignatureAlgorithm.ES256 ? "EC" : "RSA");
+        generator.initialize(algorithm == SignatureAlgorithm.ES256 ? 256 : 2048);
+        return generator.generateKeyPair();
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
@@ -23,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
 import jakarta.transaction.Transactional;
 
 @SpringBootTest
@@ -45,6 +47,9 @@ public class AuthenticationControllerTest {
     @Autowired
     private PasswordEncoder encoder;
 
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
     @BeforeEach
     public void setUp() {
         mockMvc = MockMvcBuilders.webAppContextSetup(wac)
@@ -77,6 +82,10 @@ public class AuthenticationControllerTest {
 
         assertThat(token).isNotNull();
         assertThat(token.split("\\.")).hasSize(3);
+
+        var jwt = jwtDecoder.decode(token);
+        assertThat(jwt.getSubject()).isEqualTo(user.getEmail());
+        assertThat(jwt.<Number>getClaim(JWTUtils.USER_ID_CLAIM).longValue()).isEqualTo(user.getId());
     }
 
     @Test
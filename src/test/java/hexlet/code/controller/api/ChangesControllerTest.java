@@ -0,0 +1,181 @@
+package hexlet.code.controller.api;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import hexlet.code.component.SyncProperties;
+import hexlet.code.dto.ChangesDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.ModelGenerator;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ChangesControllerTest {
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper om;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SyncProperties syncProperties;
+
+    private int pageSize;
+
+    private JwtRequestPostProcessor token;
+    private User user;
+    private Label label;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(wac)
+            .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
+            .apply(springSecurity())
+            .build();
+
+        user = Instancio.of(modelGenerator.getUserModel()).create();
+        token = jwt().jwt(builder -> builder.subject(user.getEmail()));
+        label = Instancio.of(modelGenerator.getLabelModel()).create();
+        pageSize = syncProperties.getPageSize();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        syncProperties.setPageSize(pageSize);
+    }
+
+    @Test
+    public void testFullSync() throws Exception {
+        labelRepository.save(label);
+        var request = get("/api/changes").with(token);
+
+        var result = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).and(
+            v -> v.node("full").isEqualTo(true),
+            v -> v.node("token").isString().isNotEmpty(),
+            v -> v.node("labels").isArray().isNotEmpty(),
+            v -> v.node("deleted").isObject().isEmpty()
+        );
+    }
+
+    @Test
+    public void testDeltaSync() throws Exception {
+        var deletedLabel = Instancio.of(modelGenerator.getLabelModel()).create();
+        labelRepository.save(deletedLabel);
+
+        var initial = mockMvc.perform(get("/api/changes").with(token))
+            .andExpect(status().isOk())
+            .andReturn();
+        var syncToken = om.readValue(initial.getResponse().getContentAsString(), ChangesDTO.class).getToken();
+
+        labelRepository.save(label);
+        mockMvc.perform(delete("/api/labels/" + deletedLabel.getId()).with(token))
+            .andExpect(status().isNoContent());
+
+        var request = get("/api/changes").param("since", syncToken).with(token);
+        var result = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn();
+
+        var body = result.getResponse().getContentAsString();
+        assertThatJson(body).and(
+            v -> v.node("full").isEqualTo(false),
+            v -> v.node("labels").isArray().anySatisfy(node ->
+                assertThatJson(node).node("id").isEqualTo(label.getId())),
+            v -> v.node("deleted.labels").isArray().contains(deletedLabel.getId())
+        );
+    }
+
+    @Test
+    public void testPagedSync() throws Exception {
+        var first = Instancio.of(modelGenerator.getTaskModel()).create();
+        var second = Instancio.of(modelGenerator.getTaskModel()).create();
+        taskRepository.save(first);
+        taskRepository.save(second);
+        syncProperties.setPageSize(1);
+
+        var taskIds = new HashSet<Long>();
+        var pages = 0;
+        String syncToken = null;
+        ChangesDTO changes;
+
+        do {
+            var request = get("/api/changes").with(token);
+
+            if (syncToken != null) {
+                request.param("since", syncToken);
+            }
+
+            var result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+            changes = om.readValue(result.getResponse().getContentAsString(), ChangesDTO.class);
+
+            assertThat(changes.getTasks()).hasSizeLessThanOrEqualTo(1);
+            changes.getTasks().forEach(task -> taskIds.add(task.getId()));
+            syncToken = changes.getToken();
+            pages++;
+        } while (changes.isHasMore());
+
+        assertThat(pages).isGreaterThan(1);
+        assertThat(taskIds).contains(first.getId(), second.getId());
+    }
+
+    @Test
+    public void testInvalidToken() throws Exception {
+        var request = get("/api/changes").param("since", "not a token").with(token);
+
+        mockMvc.perform(request)
+            .andExpect(status().isBadRequest());
+
+        var millisOnly = Base64.getUrlEncoder().encodeToString("1700000000000".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/changes").param("since", millisOnly).with(token))
+            .andExpect(status().isBadRequest());
+    }
+}
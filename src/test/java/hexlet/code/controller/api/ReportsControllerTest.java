@@ -0,0 +1,135 @@
+package hexlet.code.controller.api;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.history.TaskHistoryStore;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.report.TaskReports;
+import hexlet.code.repository.TaskStatusRepository;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+public class ReportsControllerTest {
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskReports taskReports;
+
+    @Autowired
+    private TaskHistoryStore historyStore;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    private JwtRequestPostProcessor token;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(wac)
+            .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
+            .apply(springSecurity())
+            .build();
+
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        var result = mockMvc.perform(get("/api/reports/tasks").param("weeks", "4").with(token))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertThatJson(result.getResponse().getContentAsString()).and(
+            v -> v.node("cycleTimes").isObject(),
+            v -> v.node("throughput").isObject().hasSize(4)
+        );
+    }
+
+    @Test
+    public void testByAssignee() throws Exception {
+        var assigneeId = Long.MAX_VALUE;
+        var draft = task(taskStatus("draft"), assigneeId);
+        var published = task(taskStatus("published"), assigneeId);
+
+        taskReports.on(TaskChangedEvent.created(draft));
+        taskReports.on(TaskChangedEvent.updated(draft, published));
+        var currentWeek = LocalDate.now(ZoneOffset.UTC).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        var result = mockMvc.perform(get("/api/reports/tasks/assignees/" + assigneeId).with(token))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertThatJson(result.getResponse().getContentAsString()).and(
+            v -> v.node("cycleTimes.draft.count").isEqualTo(1),
+            v -> v.node("throughput").isObject().containsEntry(currentWeek.toString(), 1)
+        );
+    }
+
+    @Test
+    public void testRebuildReplaysHistory() throws Exception {
+        var assigneeId = Long.MAX_VALUE - 1;
+        var draft = task(taskStatus("draft"), assigneeId);
+        var published = task(taskStatus("published"), assigneeId);
+
+        historyStore.on(TaskChangedEvent.created(draft));
+        historyStore.on(TaskChangedEvent.updated(draft, published));
+        historyStore.flush();
+        taskReports.rebuild();
+
+        var result = mockMvc.perform(get("/api/reports/tasks/assignees/" + assigneeId).with(token))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertThatJson(result.getResponse().getContentAsString()).and(
+            v -> v.node("cycleTimes.draft.count").isEqualTo(1),
+            v -> v.node("cycleTimes.published").isAbsent()
+        );
+    }
+
+    private TaskStatus taskStatus(String slug) {
+        var taskStatus = new TaskStatus();
+        taskStatus.setName(slug);
+        taskStatus.setSlug(slug);
+        return taskStatusRepository.save(taskStatus);
+    }
+
+    private static TaskDTO task(TaskStatus taskStatus, Long assigneeId) {
+        var task = new TaskDTO();
+        task.setId(Long.MAX_VALUE);
+        task.setStatus(taskStatus.getSlug());
+        task.setTaskStatusId(taskStatus.getId());
+        task.setAssigneeId(assigneeId);
+        task.setTaskLabelIds(List.of());
+        return task;
+    }
+}
@@ -28,6 +28,8 @@ import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import hexlet.code.component.TaskStatusRegistry;
+import hexlet.code.event.TaskStatusChangedEvent;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.model.User;
 import hexlet.code.repository.TaskStatusRepository;
@@ -54,6 +56,9 @@ public class TaskStatusesControllerTest {
     @Autowired
     private TaskStatusRepository taskStatusRepository;
 
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
     private JwtRequestPostProcessor token;
     private User user;
     private TaskStatus taskStatus;
@@ -211,6 +216,28 @@ public class TaskStatusesControllerTest {
         });
     }
 
+    @Test
+    public void testUpdateRefreshesRegistry() throws Exception {
+        taskStatusRepository.save(taskStatus);
+        taskStatusRegistry.refresh();
+        var previousSlug = taskStatus.getSlug();
+
+        var request = put("/api/task_statuses/" + taskStatus.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(Map.of("slug", "renamed_status")))
+            .with(token);
+
+        mockMvc.perform(request)
+            .andExpect(status().isOk());
+
+        taskStatusRegistry.on(new TaskStatusChangedEvent(taskStatus.getId()));
+
+        assertThat(taskStatusRegistry.findBySlug("renamed_status"))
+            .map(TaskStatusRegistry.Entry::id)
+            .contains(taskStatus.getId());
+        assertThat(taskStatusRegistry.findBySlug(previousSlug)).isEmpty();
+    }
+
     @Test
     public void testUpdateWithInvalidData() throws Exception {
         taskStatusRepository.save(taskStatus);
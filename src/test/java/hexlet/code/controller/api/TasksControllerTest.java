@@ -7,28 +7,49 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
+import org.hibernate.SessionFactory;
 import org.instancio.Instancio;
+import org.instancio.Select;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import hexlet.code.component.TaskChangeBroadcaster;
+import hexlet.code.component.TaskStatusRegistry;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.history.TaskHistoryStore;
+import hexlet.code.index.TaskFilterIndex;
+import hexlet.code.index.TaskSearchIndex;
+import hexlet.code.index.TaskTitleIndex;
 import hexlet.code.model.Label;
 import hexlet.code.model.Task;
 import hexlet.code.model.User;
@@ -36,10 +57,15 @@ import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskBoardService;
+import hexlet.code.service.TaskBulkService;
+import hexlet.code.service.TaskService;
 import hexlet.code.util.ModelGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureMockMvc
 @Transactional
 public class TasksControllerTest {
@@ -68,9 +94,37 @@ public class TasksControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskTitleIndex taskTitleIndex;
+
+    @Autowired
+    private TaskFilterIndex taskFilterIndex;
+
+    @Autowired
+    private TaskStatusRegistry taskStatusRegistry;
+
+    @Autowired
+    private TaskChangeBroadcaster taskChangeBroadcaster;
+
+    @Autowired
+    private TaskHistoryStore taskHistoryStore;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private JwtRequestPostProcessor token;
     private Task task;
     private User user;
+    private boolean indexed;
 
     @BeforeEach
     public void setUp() {
@@ -82,6 +136,23 @@ public class TasksControllerTest {
         user = Instancio.of(modelGenerator.getUserModel()).create();
         token = jwt().jwt(builder -> builder.subject(user.getEmail()));
         task = Instancio.of(modelGenerator.getTaskModel()).create();
+        cacheManager.getCache(TaskService.COUNTS_CACHE).clear();
+        taskStatusRegistry.refresh();
+    }
+
+    /**
+     * Tasks fed to the indexes by {@link #saveAndIndex} are rolled back with the test transaction; reload the
+     * indexes from the committed data so they do not leak into other tests.
+     */
+    @AfterTransaction
+    public void resetIndexes() throws IOException {
+        if (!indexed) {
+            return;
+        }
+
+        taskTitleIndex.rebuild();
+        taskFilterIndex.rebuild();
+        taskSearchIndex.rebuild();
     }
 
     @Test
@@ -109,7 +180,7 @@ public class TasksControllerTest {
 
     @Test
     public void testIndexWithFilters() throws Exception {
-        taskRepository.save(task);
+        saveAndIndex(task);
         var titleCont = task.getName().substring(1);
         var assigneeId = task.getAssignee().getId();
         var status = task.getTaskStatus().getSlug();
@@ -132,6 +203,7 @@ public class TasksControllerTest {
 
         assertThatJson(body)
             .isArray()
+            .isNotEmpty()
             .allSatisfy(element -> assertThatJson(element)
                 .and(v -> v.node("title").asString().containsIgnoringCase(titleCont))
                 .and(v -> v.node("assignee_id").isEqualTo(assigneeId))
@@ -140,6 +212,242 @@ public class TasksControllerTest {
         );
     }
 
+    @Test
+    public void testIndexWithLabelIdsAnyAndAll() throws Exception {
+        saveAndIndex(task);
+        var labelId = task.getLabels().stream().map(Label::getId).toList().get(0);
+        var unknownLabelId = Long.MAX_VALUE;
+
+        var anyBody = mockMvc.perform(get("/api/tasks?labelIdsAny=" + labelId + "," + unknownLabelId).with(token))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThatJson(anyBody).isArray()
+            .anySatisfy(element -> assertThatJson(element).node("id").isEqualTo(task.getId()));
+
+        var allBody = mockMvc.perform(get("/api/tasks?labelIdsAll=" + labelId + "," + unknownLabelId).with(token))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThatJson(allBody).isArray().isEmpty();
+    }
+
+    @Test
+    public void testIndexWithCursor() throws Exception {
+        var tasks = List.of(
+            Instancio.of(modelGenerator.getTaskModel()).create(),
+            Instancio.of(modelGenerator.getTaskModel()).create(),
+            Instancio.of(modelGenerator.getTaskModel()).create()
+        );
+        taskRepository.saveAll(tasks);
+
+        var firstPage = mockMvc.perform(get("/api/tasks?limit=2").with(token))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+        var next = firstPage.getHeader("X-Next-Cursor");
+        assertThat(next).isNotNull();
+        assertThat(firstPage.getHeader("X-Total-Count")).isEqualTo("3");
+
+        assertThatJson(firstPage.getContentAsString()).and(v -> {
+            v.node("[0].id").isEqualTo(tasks.get(0).getId());
+            v.node("[1].id").isEqualTo(tasks.get(1).getId());
+            v.isArray().hasSize(2);
+        });
+
+        var lastPage = mockMvc.perform(get("/api/tasks?limit=2&cursor=" + next).with(token))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+        assertThat(lastPage.getHeader("X-Next-Cursor")).isNull();
+
+        assertThatJson(lastPage.getContentAsString()).and(v -> {
+            v.node("[0].id").isEqualTo(tasks.get(2).getId());
+            v.isArray().hasSize(1);
+        });
+    }
+
+    @Test
+    public void testIndexStatementCountDoesNotGrowWithResultSize() throws Exception {
+        // The projection query for the page, one for the label ids of its tasks and one for the total.
+        var fewTasks = countIndexStatements(2);
+        var moreTasks = countIndexStatements(10);
+
+        assertThat(fewTasks).isEqualTo(3);
+        assertThat(moreTasks).isEqualTo(fewTasks);
+    }
+
+    @Test
+    public void testIndexWithInvalidCursor() throws Exception {
+        var request = get("/api/tasks?cursor=invalid").with(token);
+
+        mockMvc.perform(request)
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testCount() throws Exception {
+        saveAndIndex(task);
+        var request = head("/api/tasks?assigneeId=" + task.getAssignee().getId()).with(token);
+
+        var response = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+        assertThat(response.getHeader("X-Total-Count")).isEqualTo("1");
+        assertThat(response.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    public void testFacets() throws Exception {
+        saveAndIndex(task);
+        var assigneeId = task.getAssignee().getId();
+        var status = task.getTaskStatus().getSlug();
+
+        var body = mockMvc.perform(get("/api/tasks/facets?assigneeId=" + assigneeId).with(token))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThatJson(body).and(v -> {
+            v.node("total").isEqualTo(1);
+            v.node("assignees." + assigneeId).isEqualTo(1);
+            v.node("statuses").isObject().containsEntry(status, 1);
+        });
+    }
+
+    @Test
+    public void testSearch() throws Exception {
+        saveAndIndex(task);
+
+        var request = get("/api/tasks/search?q=" + task.getName()).with(token);
+
+        var body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThatJson(body).and(v -> {
+            v.node("[0].id").isEqualTo(task.getId());
+            v.node("[0].score").isPresent();
+            v.node("[0].task.title").isEqualTo(task.getName());
+        });
+    }
+
+    @Test
+    public void testSearchPageBeyondIntRange() throws Exception {
+        saveAndIndex(task);
+
+        var request = get("/api/tasks/search")
+            .param("q", task.getName())
+            .param("page", String.valueOf(Integer.MAX_VALUE))
+            .param("limit", "100")
+            .with(token);
+
+        var body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThatJson(body).isArray().isEmpty();
+    }
+
+    @Test
+    public void testExport() throws Exception {
+        saveAndIndex(task);
+        var request = get("/api/tasks/export?assigneeId=" + task.getAssignee().getId()).with(token);
+
+        var response = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+
+        var lines = response.getContentAsString().lines().toList();
+        assertThat(lines).hasSize(1);
+
+        assertThatJson(lines.get(0)).and(v -> {
+            v.node("id").isEqualTo(task.getId());
+            v.node("title").isEqualTo(task.getName());
+            v.node("status").isEqualTo(task.getTaskStatus().getSlug());
+            v.node("taskLabelIds").isEqualTo(task.getLabels().stream().map(Label::getId).toList());
+        });
+    }
+
+    @Test
+    public void testExportWithGzip() throws Exception {
+        saveAndIndex(task);
+        var request = get("/api/tasks/export?assigneeId=" + task.getAssignee().getId())
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .with(token);
+
+        var response = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse();
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            var lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+            assertThat(lines).hasSize(1);
+            assertThatJson(lines.get(0)).node("id").isEqualTo(task.getId());
+        }
+    }
+
+    @Test
+    public void testMove() throws Exception {
+        var other = Instancio.of(modelGenerator.getTaskModel()).create();
+        other.setTaskStatus(task.getTaskStatus());
+        saveAndIndex(task);
+        saveAndIndex(other);
+
+        var request = put("/api/tasks/" + task.getId() + "/move")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(Map.of("afterId", other.getId())))
+            .with(token);
+
+        mockMvc.perform(request)
+            .andExpect(status().isOk());
+
+        var body = mockMvc.perform(get("/api/tasks/board?status=" + task.getTaskStatus().getSlug()).with(token))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThatJson(body).and(v -> {
+            v.node("[0].status").isEqualTo(task.getTaskStatus().getSlug());
+            v.node("[0].tasks[0].id").isEqualTo(other.getId());
+            v.node("[0].tasks[1].id").isEqualTo(task.getId());
+        });
+
+        var moveBack = put("/api/tasks/" + task.getId() + "/move")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(Map.of("beforeId", other.getId())))
+            .with(token);
+
+        var moved = mockMvc.perform(moveBack)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        var otherRank = taskRepository.findDTOById(other.getId()).get().getRank();
+        assertThatJson(moved).node("rank").asString().isLessThan(otherRank);
+    }
+
     @Test
     public void testShow() throws Exception {
         taskRepository.save(task);
@@ -206,6 +514,76 @@ public class TasksControllerTest {
         });
     }
 
+    @Test
+    public void testCreateAll() throws Exception {
+        var valid = Map.of(
+            "assignee_id", task.getAssignee().getId(),
+            "title", task.getName(),
+            "status", task.getTaskStatus().getSlug(),
+            "taskLabelIds", task.getLabels().stream().map(Label::getId).toList()
+        );
+        var invalid = Map.of(
+            "title", "",
+            "status", task.getTaskStatus().getSlug() + "-unknown"
+        );
+
+        var request = post("/api/tasks/bulk")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(Arrays.asList(valid, invalid, null)))
+            .with(token);
+
+        var body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        var createdTask = taskRepository.findByName(task.getName()).get();
+
+        assertThat(createdTask.getTaskStatus().getSlug()).isEqualTo(task.getTaskStatus().getSlug());
+        assertThat(createdTask.getLabels().stream().map(Label::getId).toList())
+            .isEqualTo(task.getLabels().stream().map(Label::getId).toList());
+
+        assertThatJson(body).and(v -> {
+            v.node("[0].position").isEqualTo(0);
+            v.node("[0].id").isEqualTo(createdTask.getId());
+            v.node("[0].errors").isArray().isEmpty();
+            v.node("[1].position").isEqualTo(1);
+            v.node("[1].id").isAbsent();
+            v.node("[1].errors").isArray().hasSize(2);
+            v.node("[2].position").isEqualTo(2);
+            v.node("[2].id").isAbsent();
+            v.node("[2].errors").isArray().hasSize(1);
+        });
+    }
+
+    @Test
+    public void testCreateAllKeepsRanksShort() throws Exception {
+        var taskStatus = taskStatusRepository.save(Instancio.of(modelGenerator.getTaskStatusModel()).create());
+        task.setTaskStatus(taskStatus);
+        task.setRank("z".repeat(TaskBoardService.MAX_RANK_LENGTH + 1));
+        taskRepository.save(task);
+
+        var items = IntStream.range(0, TaskBulkService.MAX_ITEMS)
+            .mapToObj(i -> Map.of("title", "task " + i, "status", taskStatus.getSlug()))
+            .toList();
+
+        for (var batch = 0; batch < 4; batch++) {
+            mockMvc.perform(post("/api/tasks/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsString(items))
+                    .with(token))
+                .andExpect(status().isOk());
+        }
+
+        var ids = taskRepository.findIdsInRankOrder(taskStatus.getId());
+
+        assertThat(ids).hasSize(4 * TaskBulkService.MAX_ITEMS + 1).isSorted();
+        assertThat(ids.get(0)).isEqualTo(task.getId());
+        assertThat(taskRepository.findMaxRank(taskStatus.getId()).length())
+            .isLessThanOrEqualTo(TaskBoardService.MAX_RANK_LENGTH);
+    }
+
     @Test
     public void testCreateWithInvalidData() throws Exception {
         var data = Map.of(
@@ -224,9 +602,40 @@ public class TasksControllerTest {
         assertNull(createdTask);
     }
 
+    @Test
+    public void testCreateWithUnknownReferences() throws Exception {
+        var labelIds = task.getLabels().stream().map(Label::getId).toList();
+
+        var withUnknownLabels = Map.of(
+            "title", task.getName(),
+            "status", task.getTaskStatus().getSlug(),
+            "taskLabelIds", List.of(labelIds.get(0), Long.MAX_VALUE, Long.MAX_VALUE - 1)
+        );
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(withUnknownLabels))
+                .with(token))
+            .andExpect(status().isNotFound());
+
+        var withUnknownAssignee = Map.of(
+            "assignee_id", Long.MAX_VALUE,
+            "title", task.getName(),
+            "status", task.getTaskStatus().getSlug()
+        );
+
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(withUnknownAssignee))
+                .with(token))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testUpdate() throws Exception {
         taskRepository.save(task);
+        var previousTaskStatus = task.getTaskStatus();
+        var previousSlug = previousTaskStatus.getSlug();
 
         var newAssignee = Instancio.of(modelGenerator.getUserModel()).create();
         userRepository.save(newAssignee);
@@ -261,6 +670,7 @@ public class TasksControllerTest {
         assertThat(data.get("content")).isEqualTo(updatedTask.getDescription());
         assertThat(data.get("status")).isEqualTo(updatedTask.getTaskStatus().getSlug());
         assertThat(data.get("taskLabelIds")).isEqualTo(updatedTask.getLabels().stream().map(Label::getId).toList());
+        assertThat(taskStatusRepository.findById(previousTaskStatus.getId()).get().getSlug()).isEqualTo(previousSlug);
 
         var body = result.getResponse().getContentAsString();
 
@@ -276,6 +686,71 @@ public class TasksControllerTest {
         });
     }
 
+    @Test
+    public void testUpdateAll() throws Exception {
+        taskRepository.save(task);
+        var taskStatus = taskStatusRepository.save(Instancio.of(modelGenerator.getTaskStatusModel()).create());
+        var labelIds = task.getLabels().stream().map(Label::getId).toList();
+        var other = Instancio.of(modelGenerator.getTaskModel()).create();
+        other.setTaskStatus(taskStatus);
+        other.setRank("m");
+        taskRepository.save(other);
+
+        var data = Map.of(
+            "ids", List.of(task.getId()),
+            "status", taskStatus.getSlug(),
+            "removeLabelIds", labelIds
+        );
+
+        var request = patch("/api/tasks/bulk")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(data))
+            .with(token);
+
+        var body = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThatJson(body).node("affected").isEqualTo(1);
+
+        var updatedTask = taskRepository.findDTOById(task.getId()).get();
+
+        assertThat(updatedTask.getStatus()).isEqualTo(taskStatus.getSlug());
+        assertThat(updatedTask.getTaskLabelIds()).isEmpty();
+        assertThat(updatedTask.getRank()).isGreaterThan(other.getRank());
+    }
+
+    @Test
+    public void testUpdateAllWithEmptyFilter() throws Exception {
+        taskRepository.save(task);
+        var slug = task.getTaskStatus().getSlug();
+
+        mockMvc.perform(patch("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("filter", Map.of(), "status", slug)))
+                .with(token))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/tasks/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("filter", Map.of(), "all", true, "status", slug)))
+                .with(token))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testUpdateAllWithoutTarget() throws Exception {
+        var request = patch("/api/tasks/bulk")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(Map.of("status", task.getTaskStatus().getSlug())))
+            .with(token);
+
+        mockMvc.perform(request)
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testUpdateWithInvalidData() throws Exception {
         taskRepository.save(task);
@@ -292,10 +767,27 @@ public class TasksControllerTest {
         mockMvc.perform(request)
             .andExpect(status().isBadRequest());
 
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": null}")
+                .with(token))
+            .andExpect(status().isBadRequest());
+
         var updatedTask = taskRepository.findById(task.getId()).get();
         assertThat(task.getName()).isEqualTo(updatedTask.getName());
     }
 
+    @Test
+    public void testUpdateWithUnknownReferences() throws Exception {
+        taskRepository.save(task);
+
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(om.writeValueAsString(Map.of("assignee_id", Long.MAX_VALUE)))
+                .with(token))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testDestroy() throws Exception {
         taskRepository.save(task);
@@ -306,4 +798,108 @@ public class TasksControllerTest {
 
         assertThat(taskRepository.existsById(task.getId())).isFalse();
     }
+
+    @Test
+    public void testStream() throws Exception {
+        var other = Instancio.of(modelGenerator.getTaskModel()).create();
+        taskRepository.save(task);
+        taskRepository.save(other);
+
+        var subscribe = get("/api/tasks/stream")
+            .param("assigneeId", String.valueOf(task.getAssignee().getId()))
+            .with(token);
+        var result = mockMvc.perform(subscribe)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        taskChangeBroadcaster.on(TaskChangedEvent.created(taskRepository.findDTOById(other.getId()).get()));
+        taskChangeBroadcaster.on(TaskChangedEvent.created(taskRepository.findDTOById(task.getId()).get()));
+
+        var body = awaitContent(result.getResponse(), "id:" + task.getId() + "\n");
+
+        assertThat(body).contains("event:created");
+        assertThat(body).doesNotContain("id:" + other.getId() + "\n");
+    }
+
+    @Test
+    public void testHistory() throws Exception {
+        taskRepository.save(task);
+        var before = taskRepository.findDTOById(task.getId()).get();
+        var after = taskRepository.findDTOById(task.getId()).get();
+        after.setStatus("changed-status");
+
+        taskHistoryStore.on(TaskChangedEvent.created(before));
+        taskHistoryStore.on(TaskChangedEvent.updated(before, after));
+        taskHistoryStore.flush();
+
+        var request = get("/api/tasks/" + task.getId() + "/history").param("limit", "1").with(token);
+        var result = mockMvc.perform(request)
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertThat(result.getResponse().getHeader("X-Total-Count")).isEqualTo("2");
+        assertThatJson(result.getResponse().getContentAsString()).and(
+            v -> v.node("[0].action").isEqualTo("updated"),
+            v -> v.node("[0].changes").isArray().hasSize(1),
+            v -> v.node("[0].changes[0].field").isEqualTo("status"),
+            v -> v.node("[0].changes[0].from").isEqualTo(before.getStatus()),
+            v -> v.node("[0].changes[0].to").isEqualTo("changed-status")
+        );
+    }
+
+    @Test
+    public void testHistoryNotFound() throws Exception {
+        mockMvc.perform(get("/api/tasks/" + Long.MAX_VALUE + "/history").with(token))
+            .andExpect(status().isNotFound());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        for (var attempt = 0; attempt < 100; attempt++) {
+            var content = response.getContentAsString();
+            if (content.contains(expected)) {
+                return content;
+            }
+            Thread.sleep(20);
+        }
+
+        return response.getContentAsString();
+    }
+
+    /**
+     * Statements run by {@code GET /api/tasks} after {@code tasksToAdd} more tasks in one shared status. The
+     * registry is refreshed so the status does not miss it, and the counts cache is cleared so the total is
+     * always counted.
+     */
+    private long countIndexStatements(int tasksToAdd) throws Exception {
+        var taskStatus = taskStatusRepository.save(Instancio.of(modelGenerator.getTaskStatusModel()).create());
+
+        for (var i = 0; i < tasksToAdd; i++) {
+            taskRepository.save(Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getTaskStatus), taskStatus)
+                .create());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        taskStatusRegistry.refresh();
+        cacheManager.getCache(TaskService.COUNTS_CACHE).clear();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/tasks").with(token))
+            .andExpect(status().isOk());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveAndIndex(Task model) throws IOException {
+        taskRepository.save(model);
+
+        var event = TaskChangedEvent.created(taskRepository.findDTOById(model.getId()).get());
+        taskTitleIndex.on(event);
+        taskFilterIndex.on(event);
+        taskSearchIndex.on(event);
+        indexed = true;
+    }
 }
@@ -31,6 +31,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
 import hexlet.code.util.ModelGenerator;
 import jakarta.transaction.Transactional;
 
@@ -292,4 +293,39 @@ public class UsersControllerTest {
 
         assertThat(userRepository.existsById(otherUser.getId())).isTrue();
     }
+
+    @Test
+    public void testUpdateWithUserIdClaim() throws Exception {
+        userRepository.save(user);
+        var claimToken = jwt().jwt(builder -> builder
+            .subject(user.getEmail())
+            .claim(JWTUtils.USER_ID_CLAIM, user.getId()));
+
+        var request = put("/api/users/" + user.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(om.writeValueAsString(Map.of("firstName", "Jack")))
+            .with(claimToken);
+
+        mockMvc.perform(request)
+            .andExpect(status().isOk());
+
+        assertThat(userRepository.findById(user.getId()).get().getFirstName()).isEqualTo("Jack");
+    }
+
+    @Test
+    public void testDestroyOtherUserWithUserIdClaim() throws Exception {
+        var otherUser = Instancio.of(modelGenerator.getUserModel()).create();
+        userRepository.save(otherUser);
+        userRepository.save(user);
+        var claimToken = jwt().jwt(builder -> builder
+            .subject(otherUser.getEmail())
+            .claim(JWTUtils.USER_ID_CLAIM, user.getId()));
+
+        var request = delete("/api/users/" + otherUser.getId()).with(claimToken);
+
+        mockMvc.perform(request)
+            .andExpect(status().isForbidden());
+
+        assertThat(userRepository.existsById(otherUser.getId())).isTrue();
+    }
 }
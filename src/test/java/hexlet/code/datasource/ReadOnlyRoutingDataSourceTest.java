@@ -0,0 +1,81 @@
+package hexlet.code.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class ReadOnlyRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    public void setUp() {
+        var primary = node("primary");
+        var replica = node("replica");
+        var dataSource = ReadOnlyRoutingDataSource.readWrite(primary, replica);
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        PrimaryPin.clear();
+    }
+
+    @Test
+    public void testRouting() {
+        String written = readWrite.execute(status -> currentNode());
+        String read = readOnly.execute(status -> currentNode());
+
+        assertThat(written).isEqualTo("primary");
+        assertThat(read).isEqualTo("replica");
+    }
+
+    @Test
+    public void testPinnedReadsUsePrimary() {
+        PrimaryPin.pin();
+
+        String read = readOnly.execute(status -> currentNode());
+
+        assertThat(read).isEqualTo("primary");
+    }
+
+    @Test
+    public void testOnPrimaryRestoresPin() {
+        String read = readOnly.execute(status -> PrimaryPin.onPrimary(this::currentNode));
+
+        assertThat(read).isEqualTo("primary");
+        assertThat(PrimaryPin.isPinned()).isFalse();
+
+        PrimaryPin.pin();
+        PrimaryPin.onPrimary(this::currentNode);
+        assertThat(PrimaryPin.isPinned()).isTrue();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static DataSource node(String name) {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(16))");
+        jdbcTemplate.update("delete from node");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
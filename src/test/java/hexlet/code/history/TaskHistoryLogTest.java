@@ -0,0 +1,104 @@
+package hexlet.code.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TaskHistoryLogTest {
+
+    private static final int SEGMENT_SIZE = 512;
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    public void testReadNewestFirst() throws Exception {
+        try (var log = TaskHistoryLog.open(dir, SEGMENT_SIZE)) {
+            log.append(List.of(record(1, "a", "b"), record(2, "x", "y"), record(1, "b", "c"), record(1, "c", "d")));
+
+            assertThat(log.count(1)).isEqualTo(3);
+            assertThat(log.count(3)).isZero();
+            assertThat(log.read(1, 0, 2)).extracting(r -> r.changes().get(0).to()).containsExactly("d", "c");
+            assertThat(log.read(1, 2, 2)).extracting(r -> r.changes().get(0).to()).containsExactly("b");
+            assertThat(log.read(2, 0, 10)).singleElement().isEqualTo(record(2, "x", "y"));
+        }
+    }
+
+    @Test
+    public void testRollsSegmentsAndRecovers() throws Exception {
+        var records = new ArrayList<TaskHistoryRecord>();
+        for (var i = 0; i < 50; i++) {
+            records.add(record(7, String.valueOf(i), String.valueOf(i + 1)));
+        }
+
+        try (var log = TaskHistoryLog.open(dir, SEGMENT_SIZE)) {
+            log.append(records);
+        }
+
+        try (var files = Files.list(dir)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+
+        try (var log = TaskHistoryLog.open(dir, SEGMENT_SIZE)) {
+            assertThat(log.count(7)).isEqualTo(50);
+            assertThat(log.read(7, 0, 1)).singleElement().isEqualTo(records.get(49));
+            assertThat(log.read(7, 49, 1)).singleElement().isEqualTo(records.get(0));
+        }
+    }
+
+    @Test
+    public void testReplayInAppendOrder() throws Exception {
+        var records = new ArrayList<TaskHistoryRecord>();
+        for (var i = 0; i < 50; i++) {
+            records.add(record(i % 3, String.valueOf(i), String.valueOf(i + 1)));
+        }
+
+        try (var log = TaskHistoryLog.open(dir, SEGMENT_SIZE)) {
+            log.append(records);
+
+            var replayed = new ArrayList<TaskHistoryRecord>();
+            log.replay(replayed::add);
+
+            assertThat(replayed).isEqualTo(records);
+        }
+    }
+
+    @Test
+    public void testIgnoresTornTail() throws Exception {
+        try (var log = TaskHistoryLog.open(dir, SEGMENT_SIZE)) {
+            log.append(List.of(record(1, "a", "b"), record(1, "b", "c")));
+        }
+
+        var segment = dir.resolve(String.format("%020d.log", 0));
+        try (var file = new RandomAccessFile(segment.toFile(), "rw")) {
+            var secondEntry = 8 + TaskHistoryCodec.encode(record(1, "a", "b")).length;
+            file.seek(secondEntry + 8 + 2);
+            file.write(0x7f);
+        }
+
+        try (var log = TaskHistoryLog.open(dir, SEGMENT_SIZE)) {
+            assertThat(log.count(1)).isEqualTo(1);
+
+            log.append(List.of(record(1, "b", "z")));
+            assertThat(log.read(1, 0, 10)).extracting(r -> r.changes().get(0).to()).containsExactly("z", "b");
+        }
+
+        try (var log = TaskHistoryLog.open(dir, SEGMENT_SIZE)) {
+            assertThat(log.count(1)).isEqualTo(2);
+        }
+    }
+
+    private static TaskHistoryRecord record(long taskId, String from, String to) {
+        var change = new TaskHistoryRecord.Change("status", from, to);
+        return new TaskHistoryRecord(taskId, Instant.ofEpochMilli(1_000), TaskHistoryRecord.Action.UPDATED,
+            "user@example.com", List.of(change), taskId * 10);
+    }
+}
@@ -0,0 +1,41 @@
+package hexlet.code.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class SwappableIndexTest {
+
+    @Test
+    public void testReadersKeepOldIndexDuringRebuild() {
+        var index = new SwappableIndex<Map<Long, String>>(HashMap::new);
+        index.rebuild(load -> load.accept(1L, names -> names.put(1L, "old")));
+        var before = index.current();
+
+        index.rebuild(load -> {
+            load.accept(2L, names -> names.put(2L, "new"));
+            assertThat(index.current()).isSameAs(before);
+        });
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.current()).containsExactly(Map.entry(2L, "new"));
+    }
+
+    @Test
+    public void testChangeDuringRebuildWinsOverScannedRow() {
+        var index = new SwappableIndex<Map<Long, String>>(HashMap::new);
+
+        index.rebuild(load -> {
+            index.update(1L, names -> names.put(1L, "renamed"));
+            index.update(2L, names -> names.remove(2L));
+            load.accept(1L, names -> names.put(1L, "stale"));
+            load.accept(2L, names -> names.put(2L, "deleted"));
+            load.accept(3L, names -> names.put(3L, "kept"));
+        });
+
+        assertThat(index.current()).containsOnly(Map.entry(1L, "renamed"), Map.entry(3L, "kept"));
+    }
+}
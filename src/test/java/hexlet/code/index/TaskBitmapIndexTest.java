@@ -0,0 +1,124 @@
+package hexlet.code.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.dto.TaskParamsDTO;
+
+public class TaskBitmapIndexTest {
+
+    private static final Long DRAFT = 1L;
+    private static final Long PUBLISHED = 2L;
+    private static final Map<String, Long> STATUS_IDS = Map.of("draft", DRAFT, "published", PUBLISHED);
+
+    private TaskBitmapIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TaskBitmapIndex(
+            slug -> Optional.ofNullable(STATUS_IDS.get(slug)),
+            id -> STATUS_IDS.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(id))
+                .map(Map.Entry::getKey)
+                .findFirst()
+        );
+        index.put(task(1L, 10L, DRAFT, List.of(100L, 200L)));
+        index.put(task(2L, 10L, PUBLISHED, List.of(200L)));
+        index.put(task(3L, 20L, DRAFT, List.of()));
+    }
+
+    @Test
+    public void testMatchIntersectsFilters() {
+        var params = new TaskParamsDTO();
+        params.setAssigneeId(10L);
+        params.setStatus("draft");
+
+        assertThat(index.match(params).toArray()).containsExactly(1);
+    }
+
+    @Test
+    public void testMatchLabelIdsAny() {
+        var params = new TaskParamsDTO();
+        params.setLabelIdsAny(List.of(100L, 200L, 300L));
+
+        assertThat(index.match(params).toArray()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void testMatchLabelIdsAll() {
+        var params = new TaskParamsDTO();
+        params.setLabelIdsAll(List.of(100L, 200L));
+
+        assertThat(index.match(params).toArray()).containsExactly(1);
+    }
+
+    @Test
+    public void testPutReplacesPreviousEntry() {
+        index.put(task(1L, 20L, PUBLISHED, List.of()));
+
+        var params = new TaskParamsDTO();
+        params.setAssigneeId(10L);
+
+        assertThat(index.match(params).toArray()).containsExactly(2);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testRemove() {
+        index.remove(2);
+
+        var params = new TaskParamsDTO();
+        params.setLabelId(200L);
+
+        assertThat(index.match(params).toArray()).containsExactly(1);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFacetsIgnoreOwnDimension() {
+        var params = new TaskParamsDTO();
+        params.setAssigneeId(10L);
+        params.setStatus("draft");
+
+        var facets = index.facets(params, null);
+
+        assertThat(facets.getTotal()).isEqualTo(1);
+        assertThat(facets.getAssignees()).isEqualTo(Map.of(10L, 1L, 20L, 1L));
+        assertThat(facets.getStatuses()).isEqualTo(Map.of("draft", 1L, "published", 1L));
+        assertThat(facets.getLabels()).isEqualTo(Map.of(100L, 1L, 200L, 1L));
+    }
+
+    @Test
+    public void testMatchUnknownStatus() {
+        var params = new TaskParamsDTO();
+        params.setStatus("archived");
+
+        assertThat(index.match(params).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testFacetsWithin() {
+        var facets = index.facets(new TaskParamsDTO(), RoaringBitmap.bitmapOf(2, 3));
+
+        assertThat(facets.getTotal()).isEqualTo(2);
+        assertThat(facets.getStatuses()).isEqualTo(Map.of("draft", 1L, "published", 1L));
+        assertThat(facets.getLabels()).isEqualTo(Map.of(200L, 1L));
+    }
+
+    private static TaskDTO task(Long id, Long assigneeId, Long taskStatusId, List<Long> labelIds) {
+        var task = new TaskDTO();
+        task.setId(id);
+        task.setAssigneeId(assigneeId);
+        task.setTaskStatusId(taskStatusId);
+        task.setTaskLabelIds(labelIds);
+        return task;
+    }
+}
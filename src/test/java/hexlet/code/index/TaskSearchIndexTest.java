@@ -0,0 +1,58 @@
+package hexlet.code.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.instancio.Instancio;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.util.ModelGenerator;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@Transactional
+public class TaskSearchIndexTest {
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @AfterTransaction
+    public void resetIndex() throws IOException {
+        taskSearchIndex.rebuild();
+    }
+
+    @Test
+    public void testRebuildDropsDocumentsOfMissingTasks() throws IOException {
+        var task = Instancio.of(modelGenerator.getTaskModel()).create();
+        task.setName("quarterly reconciliation");
+        taskRepository.save(task);
+
+        var orphan = new TaskDTO();
+        orphan.setId(Long.MAX_VALUE);
+        orphan.setName("orphaned reconciliation");
+        taskSearchIndex.on(TaskChangedEvent.created(orphan));
+
+        assertThat(taskSearchIndex.search("reconciliation", 0, 10).hits())
+            .extracting(TaskSearchIndex.Hit::id)
+            .contains(Long.MAX_VALUE);
+
+        taskSearchIndex.rebuild();
+
+        assertThat(taskSearchIndex.search("reconciliation", 0, 10).hits())
+            .extracting(TaskSearchIndex.Hit::id)
+            .containsExactly(task.getId());
+    }
+}
@@ -0,0 +1,64 @@
+package hexlet.code.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TrigramIndex();
+        index.put(1, "Fix login page");
+        index.put(2, "Export billing report");
+        index.put(3, "Login with e-mail");
+    }
+
+    @Test
+    public void testSearchIgnoresCase() {
+        assertThat(index.search("LOGIN").toArray()).containsExactly(1, 3);
+    }
+
+    @Test
+    public void testSearchVerifiesSubstring() {
+        assertThat(index.search("gin page").toArray()).containsExactly(1);
+        assertThat(index.search("page login").isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testPutReplacesPreviousTitle() {
+        index.put(2, "Login audit");
+
+        assertThat(index.search("login").toArray()).containsExactly(1, 2, 3);
+        assertThat(index.search("billing").isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testRemove() {
+        index.remove(1);
+
+        assertThat(index.search("login").toArray()).containsExactly(3);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testShortQueryIsRejected() {
+        assertThat(TrigramIndex.isSearchable("lo")).isFalse();
+        assertThrows(IllegalArgumentException.class, () -> index.search("lo"));
+    }
+
+    @Test
+    public void testIdsBeyondIntRange() {
+        var id = IndexKeys.MAX_ID;
+        index.put(id, "Login audit");
+
+        var keys = index.search("audit").toArray();
+        assertThat(keys).hasSize(1);
+        assertThat(IndexKeys.toId(keys[0])).isEqualTo(id);
+        assertThrows(IllegalArgumentException.class, () -> index.put(id + 1, "Login audit"));
+    }
+}
@@ -0,0 +1,140 @@
+package hexlet.code.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import hexlet.code.dto.TaskDTO;
+import hexlet.code.event.TaskChangedEvent;
+import hexlet.code.report.TaskReportAggregates.Dimension;
+import hexlet.code.report.TaskReportAggregates.Type;
+
+public class TaskReportAggregatesTest {
+
+    private static final Instant MONDAY = Instant.parse("2024-06-03T10:00:00Z");
+    private static final Map<String, Long> STATUS_IDS = Map.of("draft", 1L, "to_review", 2L, "published", 3L);
+
+    @Test
+    public void testCycleTimes() {
+        var aggregates = aggregates();
+        var draft = task(1L, "draft", 10L, List.of(100L));
+        var review = task(1L, "to_review", 10L, List.of(100L));
+
+        aggregates.apply(TaskChangedEvent.created(draft), MONDAY);
+        aggregates.apply(TaskChangedEvent.updated(draft, review), MONDAY.plus(Duration.ofHours(2)));
+
+        var report = aggregates.report(Dimension.ALL, 1, MONDAY);
+        var draftStats = report.getCycleTimes().get("draft");
+        assertThat(draftStats.getCount()).isEqualTo(1);
+        assertThat(draftStats.getMeanSeconds()).isEqualTo(7_200);
+        assertThat(draftStats.getMaxSeconds()).isEqualTo(7_200);
+        assertThat(report.getCycleTimes()).doesNotContainKey("to_review");
+
+        assertThat(aggregates.report(new Dimension(Type.ASSIGNEE, 10L), 1, MONDAY).getCycleTimes())
+            .containsKey("draft");
+        assertThat(aggregates.report(new Dimension(Type.LABEL, 100L), 1, MONDAY).getCycleTimes())
+            .containsKey("draft");
+        assertThat(aggregates.report(new Dimension(Type.ASSIGNEE, 11L), 1, MONDAY).getCycleTimes()).isEmpty();
+    }
+
+    @Test
+    public void testUpdateWithoutTransitionIsIgnored() {
+        var aggregates = aggregates();
+        var draft = task(1L, "draft", null, List.of());
+        var renamed = task(1L, "draft", 10L, List.of());
+
+        aggregates.apply(TaskChangedEvent.created(draft), MONDAY);
+        aggregates.apply(TaskChangedEvent.updated(draft, renamed), MONDAY.plusSeconds(60));
+
+        assertThat(aggregates.report(Dimension.ALL, 1, MONDAY).getCycleTimes()).isEmpty();
+    }
+
+    @Test
+    public void testStatusRenameIsNotATransition() {
+        var aggregates = aggregates();
+        var draft = task(1L, "draft", null, List.of());
+        var renamed = task(1L, "draft", null, List.of());
+        renamed.setStatus("drafting");
+
+        aggregates.apply(TaskChangedEvent.created(draft), MONDAY);
+        aggregates.apply(TaskChangedEvent.updated(draft, renamed), MONDAY.plusSeconds(60));
+
+        assertThat(aggregates.report(Dimension.ALL, 1, MONDAY).getCycleTimes()).isEmpty();
+    }
+
+    @Test
+    public void testThroughput() {
+        var aggregates = aggregates();
+        var lastWeek = MONDAY.minus(Duration.ofDays(3));
+
+        aggregates.apply(TaskChangedEvent.created(task(1L, "published", 10L, List.of())), lastWeek);
+        aggregates.apply(TaskChangedEvent.created(task(2L, "draft", 10L, List.of())), lastWeek);
+
+        var draft = task(2L, "draft", 10L, List.of());
+        aggregates.apply(TaskChangedEvent.updated(draft, task(2L, "published", 10L, List.of())), MONDAY);
+        aggregates.apply(TaskChangedEvent.created(task(3L, "published", 20L, List.of())), MONDAY.plusSeconds(60));
+
+        assertThat(aggregates.report(Dimension.ALL, 3, MONDAY).getThroughput())
+            .containsExactly(
+                Map.entry("2024-05-20", 0L),
+                Map.entry("2024-05-27", 1L),
+                Map.entry("2024-06-03", 2L));
+        assertThat(aggregates.report(new Dimension(Type.ASSIGNEE, 10L), 1, MONDAY).getThroughput())
+            .containsEntry("2024-06-03", 1L);
+    }
+
+    @Test
+    public void testFollows() {
+        var aggregates = aggregates();
+        var draft = task(1L, "draft", null, List.of());
+        var review = task(1L, "to_review", null, List.of());
+        var published = task(1L, "published", null, List.of());
+
+        assertThat(aggregates.follows(TaskChangedEvent.created(draft))).isTrue();
+
+        aggregates.apply(TaskChangedEvent.created(draft), MONDAY);
+        aggregates.apply(TaskChangedEvent.updated(draft, review), MONDAY.plusSeconds(60));
+
+        assertThat(aggregates.follows(TaskChangedEvent.created(draft))).isFalse();
+        assertThat(aggregates.follows(TaskChangedEvent.updated(draft, review))).isFalse();
+        assertThat(aggregates.follows(TaskChangedEvent.updated(review, published))).isTrue();
+        assertThat(aggregates.follows(TaskChangedEvent.deleted(review))).isTrue();
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        var histogram = new LatencyHistogram();
+
+        for (var minutes = 1; minutes <= 100; minutes++) {
+            histogram.record(Duration.ofMinutes(minutes));
+        }
+
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.maxSeconds()).isEqualTo(6_000);
+        assertThat(histogram.percentileSeconds(0.5)).isBetween(3_000L, 3_840L);
+        assertThat(histogram.percentileSeconds(0.9)).isEqualTo(6_000);
+        assertThat(histogram.percentileSeconds(0.01)).isEqualTo(60);
+    }
+
+    private static TaskReportAggregates aggregates() {
+        return new TaskReportAggregates("published", id -> STATUS_IDS.entrySet().stream()
+            .filter(entry -> entry.getValue().equals(id))
+            .map(Map.Entry::getKey)
+            .findFirst());
+    }
+
+    private static TaskDTO task(Long id, String status, Long assigneeId, List<Long> labelIds) {
+        var task = new TaskDTO();
+        task.setId(id);
+        task.setStatus(status);
+        task.setTaskStatusId(STATUS_IDS.get(status));
+        task.setAssigneeId(assigneeId);
+        task.setTaskLabelIds(labelIds);
+        return task;
+    }
+}
@@ -0,0 +1,105 @@
+package hexlet.code.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.hibernate.SessionFactory;
+import org.instancio.Instancio;
+import org.instancio.Select;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import hexlet.code.model.Task;
+import hexlet.code.util.ModelGenerator;
+import hexlet.code.util.RankKeys;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+
+@SpringBootTest
+@Transactional
+public class TaskRepositoryTest {
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testRankOrderMatchesRankKeys() {
+        var random = new Random(42);
+        var keys = new ArrayList<>(RankKeys.spread(3));
+
+        for (var i = 0; i < 200; i++) {
+            var position = random.nextInt(keys.size() + 1);
+            var lo = position == 0 ? null : keys.get(position - 1);
+            var hi = position == keys.size() ? null : keys.get(position);
+            keys.add(position, RankKeys.between(lo, hi));
+        }
+
+        var taskStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        taskStatusRepository.save(taskStatus);
+        var tasks = new ArrayList<Task>();
+
+        for (var key : keys) {
+            var task = new Task();
+            task.setName("Task " + key);
+            task.setTaskStatus(taskStatus);
+            task.setRank(key);
+            tasks.add(task);
+        }
+
+        // Saved in shuffled order, so that neither ids nor insertion order match the rank order.
+        var shuffled = new ArrayList<>(tasks);
+        Collections.shuffle(shuffled, random);
+        taskRepository.saveAll(shuffled);
+
+        List<Long> expected = tasks.stream()
+            .sorted(Comparator.comparing(Task::getRank))
+            .map(Task::getId)
+            .toList();
+
+        assertThat(taskRepository.findIdsInRankOrder(taskStatus.getId())).isEqualTo(expected);
+        assertThat(taskRepository.findMaxRank(taskStatus.getId())).isEqualTo(keys.get(keys.size() - 1));
+    }
+
+    @Test
+    public void testLabelsAreBatchFetched() {
+        var taskStatus = taskStatusRepository.save(Instancio.of(modelGenerator.getTaskStatusModel()).create());
+        var ids = new ArrayList<Long>();
+
+        for (var i = 0; i < 10; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel())
+                .set(Select.field(Task::getTaskStatus), taskStatus)
+                .create();
+            ids.add(taskRepository.save(task).getId());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        taskRepository.findAllById(ids).forEach(task -> task.getLabels().size());
+
+        // One select for the tasks and one for all of their label collections.
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
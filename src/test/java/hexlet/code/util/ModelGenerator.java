@@ -2,6 +2,7 @@ package hexlet.code.util;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.instancio.Instancio;
 import org.instancio.Model;
@@ -24,6 +25,9 @@ import net.datafaker.Faker;
 @Getter
 @Component
 public class ModelGenerator {
+    // Status names and slugs are unique, and a handful of generated words collide too often on their own.
+    private final AtomicLong sequence = new AtomicLong();
+
     private Model<Label> labelModel;
     private Model<Task> taskModel;
     private Model<TaskStatus> taskStatusModel;
@@ -49,8 +53,8 @@ public class ModelGenerator {
         taskStatusModel = Instancio.of(TaskStatus.class)
             .ignore(Select.field(TaskStatus::getId))
             .ignore(Select.field(TaskStatus::getTasks))
-            .supply(Select.field(TaskStatus::getName), () -> faker.lorem().word())
-            .supply(Select.field(TaskStatus::getSlug), () -> faker.lorem().word())
+            .supply(Select.field(TaskStatus::getName), () -> faker.lorem().word() + "-" + sequence.incrementAndGet())
+            .supply(Select.field(TaskStatus::getSlug), () -> faker.lorem().word() + "-" + sequence.incrementAndGet())
             .toModel();
 
         userModel = Instancio.of(User.class)
@@ -0,0 +1,82 @@
+package hexlet.code.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RankKeysTest {
+
+    @Test
+    public void testBetween() {
+        assertThat(RankKeys.between("1", "3")).isEqualTo("2");
+        assertThat(RankKeys.between("1", "2")).isBetween("1", "2").isNotIn("1", "2");
+        assertThat(RankKeys.between(null, "1")).isLessThan("1");
+        assertThat(RankKeys.between("z", null)).isGreaterThan("z");
+    }
+
+    @Test
+    public void testBetweenKeepsOrderUnderRandomInserts() {
+        var random = new Random(42);
+        var keys = new ArrayList<>(RankKeys.spread(3));
+
+        for (var i = 0; i < 5_000; i++) {
+            var position = random.nextInt(keys.size() + 1);
+            var lo = position == 0 ? null : keys.get(position - 1);
+            var hi = position == keys.size() ? null : keys.get(position);
+            keys.add(position, RankKeys.between(lo, hi));
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allMatch(RankKeys::isValid);
+    }
+
+    @Test
+    public void testOrderDoesNotDependOnCollation() {
+        var keys = new ArrayList<>(RankKeys.spread(1_000));
+        keys.add(RankKeys.between(null, keys.get(0)));
+        keys.add(RankKeys.between(keys.get(keys.size() - 2), null));
+        keys.sort(null);
+
+        for (var locale : List.of(Locale.US, Locale.GERMANY, Locale.ROOT)) {
+            assertThat(keys).isSortedAccordingTo(Collator.getInstance(locale));
+        }
+    }
+
+    @Test
+    public void testBetweenRejectsKeysOutOfOrder() {
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("b", "a"));
+    }
+
+    @Test
+    public void testIsValid() {
+        assertThat(RankKeys.isValid("a1")).isTrue();
+        assertThat(RankKeys.isValid("a0")).isFalse();
+        assertThat(RankKeys.isValid("aB")).isFalse();
+        assertThat(RankKeys.isValid("")).isFalse();
+    }
+
+    @Test
+    public void testSpread() {
+        var keys = RankKeys.spread(10_000);
+
+        assertThat(keys).hasSize(10_000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allMatch(key -> key.length() <= 4);
+    }
+
+    @Test
+    public void testSpreadAfter() {
+        var last = "z".repeat(20);
+        var keys = RankKeys.spread(last, 5_000);
+
+        assertThat(keys).hasSize(5_000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allMatch(key -> key.compareTo(last) > 0 && RankKeys.isValid(key));
+        assertThat(keys).allMatch(key -> key.length() <= last.length() + 4);
+    }
+}